@@ -0,0 +1,100 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds the server schema with a synthetic dataset whose size is driven by the number of bookings.
+ * Every user both owns items and books them, so {@link #HOT_USER_ID} has a typical share of rows at any size.
+ */
+final class BenchmarkDataset {
+    static final long HOT_USER_ID = 1L;
+    static final String SEARCH_TEXT = "drill";
+
+    private static final String[] WORDS = {
+        "drill", "saw", "ladder", "tent", "bike", "kayak", "camera", "projector", "grill", "mixer"
+    };
+    private static final int BATCH_SIZE = 10_000;
+    private static final List<String> SEQUENCE_TABLES = List.of("users", "requests", "items", "bookings", "comments");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    BenchmarkDataset(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void seed(int bookings) {
+        int users = Math.max(10, bookings / 100);
+        int items = Math.max(10, bookings / 20);
+        int requests = Math.max(1, items / 10);
+        int comments = bookings / 10;
+        LocalDateTime now = LocalDateTime.now();
+
+        insert("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users,
+                id -> new Object[]{id, "user" + id, "user" + id + "@example.com"});
+        insert("INSERT INTO requests (id, description, created, requestor_id) VALUES (?, ?, ?, ?)", requests,
+                id -> new Object[]{id, "Need a " + word(id), timestamp(now.minusHours(id)), userId(id, users)});
+        insert("INSERT INTO items (id, name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?, ?)",
+                items, id -> new Object[]{id, word(id) + " " + id, "Reliable " + word(id) + " for rent",
+                        random.nextInt(10) != 0, userId(id, users), id % 3 == 0 ? id % requests + 1 : null});
+        insert("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?, ?)",
+                bookings, id -> {
+                    LocalDateTime start = now.plusHours(random.nextInt(2 * 24 * 365) - 24 * 365);
+                    return new Object[]{id, timestamp(start), timestamp(start.plusHours(1 + random.nextInt(72))),
+                            random.nextInt(items) + 1, userId(id, users), status()};
+                });
+        insert("INSERT INTO comments (id, text, item_id, author_id, created) VALUES (?, ?, ?, ?, ?)", comments,
+                id -> new Object[]{id, "Comment " + id, random.nextInt(items) + 1, userId(id, users),
+                        timestamp(now.minusDays(random.nextInt(365)))});
+        // строки вставлены с явными id, поэтому последовательности переставляются за ними
+        for (String table : SEQUENCE_TABLES) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " +
+                    "(SELECT COALESCE(MAX(id), 0) + 50 FROM " + table + ")");
+        }
+    }
+
+    private void insert(String sql, int count, RowFactory rows) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= count; id++) {
+            batch.add(rows.row(id));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private String status() {
+        int roll = random.nextInt(10);
+        if (roll < 7) {
+            return "APPROVED";
+        }
+        return roll < 9 ? "WAITING" : "REJECTED";
+    }
+
+    private static String word(long id) {
+        return WORDS[(int) (id % WORDS.length)];
+    }
+
+    private static long userId(long id, int users) {
+        return (id - 1) % users + 1;
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return Timestamp.valueOf(time);
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] row(long id);
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.service.BookingService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bookings inserted per second: one {@code create} call per booking against one {@code createAll} call
+ * whose inserts Hibernate sends as a single JDBC batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BookingInsertBenchmark {
+    private static final int BOOKINGS_PER_INVOCATION = 100;
+    private static final int BOOKINGS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private List<Long> itemIds;
+    private LocalDateTime nextStart;
+
+    @Setup
+    public void setUp() {
+        context = ShareItContext.start(BOOKINGS);
+        bookingService = context.getBean(BookingService.class);
+        itemIds = context.getBean(JdbcTemplate.class).queryForList(
+                "SELECT id FROM items WHERE available LIMIT ?", Long.class, BOOKINGS_PER_INVOCATION);
+        // новые брони идут после всех сгенерированных, чтобы не пересекаться с ними
+        nextStart = LocalDateTime.now().plusYears(2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOKINGS_PER_INVOCATION)
+    public List<BookingDto> singleInserts() {
+        List<BookingDto> bookings = new ArrayList<>(BOOKINGS_PER_INVOCATION);
+        for (BookingRequest request : nextRequests()) {
+            bookings.add(bookingService.create(BenchmarkDataset.HOT_USER_ID, request));
+        }
+        return bookings;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOKINGS_PER_INVOCATION)
+    public List<BookingDto> batchedInserts() {
+        return bookingService.createAll(BenchmarkDataset.HOT_USER_ID, nextRequests());
+    }
+
+    private List<BookingRequest> nextRequests() {
+        LocalDateTime start = nextStart;
+        nextStart = nextStart.plusHours(1);
+        List<BookingRequest> requests = new ArrayList<>(itemIds.size());
+        for (Long itemId : itemIds) {
+            BookingRequest request = new BookingRequest();
+            request.setItemId(itemId);
+            request.setStart(start);
+            request.setEnd(start.plusMinutes(30));
+            requests.add(request);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BookingServiceBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookings;
+
+    @Param
+    private State state;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+
+    @Setup
+    public void setUp() {
+        context = ShareItContext.start(bookings);
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingDto> customerBookings() {
+        return bookingService.getCustomerBookings(BenchmarkDataset.HOT_USER_ID, state, KeysetPageRequest.of(0, 10));
+    }
+
+    @Benchmark
+    public List<BookingDto> ownersBookings() {
+        return bookingService.getOwnersBookings(BenchmarkDataset.HOT_USER_ID, state, KeysetPageRequest.of(0, 10));
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.map.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ItemServiceBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookings;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private ItemRequestService itemRequestService;
+    private ItemMapper itemMapper;
+    private List<Item> ownerItems;
+
+    @Setup
+    public void setUp() {
+        context = ShareItContext.start(bookings);
+        itemService = context.getBean(ItemService.class);
+        itemRequestService = context.getBean(ItemRequestService.class);
+        itemMapper = context.getBean(ItemMapper.class);
+
+        ownerItems = context.getBean(ItemRepository.class).findItemsByOwnerId(BenchmarkDataset.HOT_USER_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDto> ownerItems() {
+        return itemService.getAllItemsFromOwner(BenchmarkDataset.HOT_USER_ID);
+    }
+
+    @Benchmark
+    public List<ItemDto> search() {
+        return itemService.search(BenchmarkDataset.HOT_USER_ID, BenchmarkDataset.SEARCH_TEXT, 0, 10);
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        return itemService.suggest(BenchmarkDataset.SEARCH_TEXT.substring(0, 2), 10);
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> myRequests() {
+        return itemRequestService.getMyRequests(BenchmarkDataset.HOT_USER_ID);
+    }
+
+    @Benchmark
+    public List<ItemDto> itemToDto() {
+        return ownerItems.stream().map(itemMapper::toDto).toList();
+    }
+}
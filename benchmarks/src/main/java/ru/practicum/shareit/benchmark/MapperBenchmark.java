@@ -0,0 +1,123 @@
+package ru.practicum.shareit.benchmark;
+
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.map.BookingMapper;
+import ru.practicum.shareit.booking.map.BookingMapperImpl;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.comment.CommentMapperImpl;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.map.ItemMapper;
+import ru.practicum.shareit.item.map.ItemMapperImpl;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.map.UserMapper;
+import ru.practicum.shareit.user.map.UserMapperImpl;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written mappers against ModelMapper configured the way the server used it (STRICT, null-skipping).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"1", "10000"})
+    private int size;
+
+    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+    private BookingMapper bookingMapper;
+    private ItemMapper itemMapper;
+
+    private List<User> users;
+    private List<Item> items;
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setPropertyCondition(Conditions.isNotNull());
+        userMapper = new UserMapperImpl();
+        bookingMapper = new BookingMapperImpl(userMapper);
+        itemMapper = new ItemMapperImpl(new CommentMapperImpl());
+
+        users = new ArrayList<>(size);
+        items = new ArrayList<>(size);
+        bookings = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        for (long id = 1; id <= size; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setName("user" + id);
+            user.setEmail("user" + id + "@example.com");
+            users.add(user);
+
+            Item item = new Item();
+            item.setId(id);
+            item.setName("item" + id);
+            item.setDescription("description " + id);
+            item.setAvailable(true);
+            item.setOwnerId(id);
+            items.add(item);
+
+            Booking booking = new Booking();
+            booking.setId(id);
+            booking.setStart(start.plusHours(id));
+            booking.setEnd(start.plusHours(id + 1));
+            booking.setItem(item);
+            booking.setBooker(user);
+            booking.setStatus(Status.APPROVED);
+            bookings.add(booking);
+        }
+    }
+
+    @Benchmark
+    public List<UserDto> usersModelMapper() {
+        return users.stream().map(user -> modelMapper.map(user, UserDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<UserDto> usersHandWritten() {
+        return users.stream().map(userMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<ItemDto> itemsModelMapper() {
+        return items.stream().map(item -> {
+            ItemDto itemDto = new ItemDto();
+            modelMapper.map(item, itemDto);
+            itemDto.setComments(List.of());
+            return itemDto;
+        }).toList();
+    }
+
+    @Benchmark
+    public List<ItemDto> itemsHandWritten() {
+        return items.stream().map(itemMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<BookingDto> bookingsModelMapper() {
+        return bookings.stream().map(booking -> modelMapper.map(booking, BookingDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<BookingDto> bookingsHandWritten() {
+        return bookings.stream().map(bookingMapper::toDto).toList();
+    }
+}
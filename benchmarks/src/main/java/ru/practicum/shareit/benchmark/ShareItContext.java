@@ -0,0 +1,40 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.summary.ItemBookingSummaryService;
+
+final class ShareItContext {
+    private ShareItContext() {
+    }
+
+    static ConfigurableApplicationContext start(int bookings) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run("--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=shareit",
+                        "--spring.datasource.password=shareit",
+                        "--shareit.booking-summary.roll-forward-delay=3600000",
+                        "--logging.level.root=WARN");
+        new BenchmarkDataset(context.getBean(JdbcTemplate.class)).seed(bookings);
+        // данные вставлены в обход JPA, поэтому поисковый индекс строится заново
+        context.getBean(ItemSearchIndex.class).rebuild();
+        // как после миграции: сводки бронирований создаются устаревшими и досчитываются roll-forward
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO item_booking_summary (item_id, stale_at) SELECT id, CURRENT_TIMESTAMP FROM items");
+        ItemBookingSummaryService summaryService = context.getBean(ItemBookingSummaryService.class);
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item_booking_summary WHERE stale_at <= CURRENT_TIMESTAMP",
+                Integer.class) > 0) {
+            summaryService.rollForward();
+        }
+        return context;
+    }
+}
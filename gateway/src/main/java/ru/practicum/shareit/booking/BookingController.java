@@ -3,15 +3,19 @@ package ru.practicum.shareit.booking;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
+import java.util.List;
 
 @Controller
 @RequestMapping(path = "/bookings")
@@ -25,11 +29,12 @@ public class BookingController {
     public ResponseEntity<Object> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
                                               @RequestParam(name = "state", defaultValue = "all") String stateParam,
                                               @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                              @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-        log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getBookings(userId, state, from, size);
+        log.info("Get booking with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size, cursor);
+        return bookingClient.getBookings(userId, state, from, size, cursor);
     }
 
     @PostMapping
@@ -39,6 +44,28 @@ public class BookingController {
         return bookingClient.bookItem(userId, requestDto);
     }
 
+    @PostMapping(path = "/bulk")
+    public ResponseEntity<Object> bookItems(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestBody @Size(min = 1, max = 100) List<@Valid BookItemRequestDto> requestDtos) {
+        log.info("Creating {} bookings, userId={}", requestDtos.size(), userId);
+        return bookingClient.bookItems(userId, requestDtos);
+    }
+
+    @PostMapping(path = "/async")
+    public ResponseEntity<Object> enqueueBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                 @RequestBody @Valid BookItemRequestDto requestDto) {
+        log.info("Enqueue booking {}, userId={}", requestDto, userId);
+        return bookingClient.enqueueBooking(userId, requestDto);
+    }
+
+    @GetMapping(path = "/tickets/{ticketId}")
+    public ResponseEntity<Object> getTicket(@RequestHeader("X-Sharer-User-Id") long userId,
+                                            @PathVariable Long ticketId) {
+        log.info("Get booking ticket {}, userId={}", ticketId, userId);
+        return bookingClient.getTicket(userId, ticketId);
+    }
+
     @PatchMapping(path = "/{bookingId}")
     public ResponseEntity<Object> approveOrRejectBooking(
             @RequestHeader("X-Sharer-User-Id") long userId,
@@ -48,18 +75,39 @@ public class BookingController {
         return bookingClient.approveOrRejectBooking(userId, bookingId, approved);
     }
 
+    @PatchMapping(path = "/batch")
+    public ResponseEntity<Object> approveOrRejectBookings(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestBody @Size(min = 1, max = 100) List<@Valid BookingDecisionDto> decisions) {
+        log.info("Approve/reject {} bookings, userId={}", decisions.size(), userId);
+        return bookingClient.approveOrRejectBookings(userId, decisions);
+    }
+
     @GetMapping(path = "/owner")
     public ResponseEntity<Object> getOwnersBookings(
             @RequestHeader("X-Sharer-User-Id") long userId,
             @RequestParam(defaultValue = "ALL") String stateParam,
             @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-            @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+            @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-        log.info("Get owner's bookings with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getOwnersBookings(userId, state, from, size);
+        log.info("Get owner's bookings with state {}, userId={}, from={}, size={}, cursor={}",
+                stateParam, userId, from, size, cursor);
+        return bookingClient.getOwnersBookings(userId, state, from, size, cursor);
     }
 
+    @GetMapping(path = "/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportOwnersBookings(@RequestHeader("X-Sharer-User-Id") long userId) {
+        log.info("Export owner's bookings, userId={}", userId);
+        return bookingClient.exportOwnersBookings(userId);
+    }
+
+    @GetMapping(path = "/stream")
+    public ResponseEntity<StreamingResponseBody> streamStatusChanges(@RequestHeader("X-Sharer-User-Id") long userId) {
+        log.info("Stream booking status changes, userId={}", userId);
+        return bookingClient.streamStatusChanges(userId);
+    }
 
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
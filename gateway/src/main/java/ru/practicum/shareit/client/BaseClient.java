@@ -1,14 +1,22 @@
 package ru.practicum.shareit.client;
 
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
 public class BaseClient {
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
     protected final RestTemplate rest;
 
     public BaseClient(RestTemplate rest) {
@@ -75,6 +83,42 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    /**
+     * Relays a long-lived streaming response from the server chunk by chunk instead of buffering it.
+     * The upstream request is opened before returning, so server errors keep their status code.
+     */
+    protected ResponseEntity<StreamingResponseBody> stream(String path, long userId, MediaType mediaType) {
+        ClientHttpResponse response;
+        try {
+            ClientHttpRequest request = rest.getRequestFactory()
+                    .createRequest(rest.getUriTemplateHandler().expand(path), HttpMethod.GET);
+            request.getHeaders().setAccept(List.of(mediaType));
+            request.getHeaders().set("X-Sharer-User-Id", String.valueOf(userId));
+            response = request.execute();
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                try (response) {
+                    byte[] body = response.getBody().readAllBytes();
+                    return ResponseEntity.status(response.getStatusCode())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(out -> out.write(body));
+                }
+            }
+        } catch (IOException e) {
+            throw new ResourceAccessException("Stream " + path + " is not available: " + e.getMessage(), e);
+        }
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .body(out -> {
+                    try (response; InputStream in = response.getBody()) {
+                        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+                        for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                            out.write(buffer, 0, read);
+                            out.flush();
+                        }
+                    }
+                });
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
@@ -12,6 +12,8 @@ import ru.practicum.shareit.item.dto.CommentRequest;
 import ru.practicum.shareit.item.dto.ItemRequest;
 import ru.practicum.shareit.item.dto.ItemUpdateRequest;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -44,9 +46,29 @@ public class ItemClient extends BaseClient {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> searchItem(long userId, String text) {
-        Map<String, Object> params = Map.of("text", text);
-        return get("/search", userId, params);
+    public ResponseEntity<Object> searchItem(long userId, String text, Integer from, Integer size) {
+        Map<String, Object> params = Map.of("text", text, "from", from, "size", size);
+        return get("/search?text={text}&from={from}&size={size}", userId, params);
+    }
+
+    public ResponseEntity<Object> suggest(long userId, String prefix, Integer size) {
+        Map<String, Object> params = Map.of("prefix", prefix, "size", size);
+        return get("/suggest?prefix={prefix}&size={size}", userId, params);
+    }
+
+    public ResponseEntity<Object> getAvailability(long userId, long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> params = Map.of("from", from, "to", to);
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, params);
+    }
+
+    public ResponseEntity<Object> getComments(long userId, long itemId, Integer size, String cursor) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("size", size);
+        if (cursor == null) {
+            return get("/" + itemId + "/comments?size={size}", userId, params);
+        }
+        params.put("cursor", cursor);
+        return get("/" + itemId + "/comments?size={size}&cursor={cursor}", userId, params);
     }
 
     public ResponseEntity<Object> saveComment(long userId, long itemId, CommentRequest commentRequest) {
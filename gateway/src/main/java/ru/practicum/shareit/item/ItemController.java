@@ -2,8 +2,12 @@ package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -13,6 +17,8 @@ import ru.practicum.shareit.item.dto.CommentRequest;
 import ru.practicum.shareit.item.dto.ItemRequest;
 import ru.practicum.shareit.item.dto.ItemUpdateRequest;
 
+import java.time.LocalDateTime;
+
 @Controller
 @Slf4j
 @RequestMapping(value = "items")
@@ -56,9 +62,40 @@ public class ItemController {
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/search")
     public ResponseEntity<Object> searchItem(@RequestHeader("X-Sharer-User-Id") long userId,
-                                             @NotBlank @RequestParam String text) {
-        log.info("Retrieving items with text {} and user id {}", text, userId);
-        return itemClient.searchItem(userId, text);
+                                             @NotBlank @RequestParam String text,
+                                             @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                             @Positive @RequestParam(defaultValue = "10") Integer size) {
+        log.info("Retrieving items with text {} and user id {}, from={}, size={}", text, userId, from, size);
+        return itemClient.searchItem(userId, text, from, size);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/suggest")
+    public ResponseEntity<Object> suggest(@RequestHeader("X-Sharer-User-Id") long userId,
+                                          @NotBlank @RequestParam String prefix,
+                                          @Positive @RequestParam(defaultValue = "10") Integer size) {
+        log.info("Suggesting item names for prefix {} and user id {}, size={}", prefix, userId, size);
+        return itemClient.suggest(userId, prefix, size);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<Object> getAvailability(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                  @PathVariable("itemId") long itemId,
+                                                  @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                  @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Retrieving availability of item {} from {} to {} with user id {}", itemId, from, to, userId);
+        return itemClient.getAvailability(userId, itemId, from, to);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<Object> getComments(@RequestHeader("X-Sharer-User-Id") long userId,
+                                              @PathVariable("itemId") long itemId,
+                                              @Positive @RequestParam(defaultValue = "10") Integer size,
+                                              @RequestParam(required = false) String cursor) {
+        log.info("Retrieving comments of item {} with user id {}, size={}, cursor={}", itemId, userId, size, cursor);
+        return itemClient.getComments(userId, itemId, size, cursor);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -10,6 +10,10 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.request.dto.ItemRequestRequset;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
 @Service
 public class RequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
@@ -32,8 +36,34 @@ public class RequestClient extends BaseClient {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAllRequests(long userId) {
-        return get("/all", userId);
+    public ResponseEntity<Object> getAllRequests(long userId, Integer from, Integer size, String cursor) {
+        // передаём только заданные параметры: без них сервер отдаёт весь список, как раньше
+        Map<String, Object> parameters = new HashMap<>();
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        if (from != null) {
+            parameters.put("from", from);
+            query.add("from={from}");
+        }
+        if (size != null) {
+            parameters.put("size", size);
+            query.add("size={size}");
+        }
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query.add("cursor={cursor}");
+        }
+        return get("/all" + query, userId, parameters);
+    }
+
+    public ResponseEntity<Object> getMatches(long userId, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/matches?from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/matches?from={from}&size={size}&cursor={cursor}", userId, parameters);
     }
 
     public ResponseEntity<Object> getRequest(long requestId, long userId) {
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.request;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -31,9 +33,21 @@ public class RequestController {
     }
 
     @GetMapping(path = "/all")
-    public ResponseEntity<Object> getRequestsAll(@RequestHeader("X-Sharer-User-Id") long userId) {
-        log.info("Get all requests with user id {}", userId);
-        return requestClient.getAllRequests(userId);
+    public ResponseEntity<Object> getRequestsAll(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                 @PositiveOrZero @RequestParam(required = false) Integer from,
+                                                 @Positive @RequestParam(required = false) Integer size,
+                                                 @RequestParam(required = false) String cursor) {
+        log.info("Get all requests with user id {}, from={}, size={}, cursor={}", userId, from, size, cursor);
+        return requestClient.getAllRequests(userId, from, size, cursor);
+    }
+
+    @GetMapping(path = "/matches")
+    public ResponseEntity<Object> getMatches(@RequestHeader("X-Sharer-User-Id") long userId,
+                                             @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                             @Positive @RequestParam(defaultValue = "10") Integer size,
+                                             @RequestParam(required = false) String cursor) {
+        log.info("Get request matches with user id {}, from={}, size={}, cursor={}", userId, from, size, cursor);
+        return requestClient.getMatches(userId, from, size, cursor);
     }
 
     @GetMapping(path = "{requestId}")
@@ -1,12 +1,24 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingDecision;
+import ru.practicum.shareit.booking.dto.BookingDecisionResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.export.BookingExport;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.stream.BookingStatusStream;
+import ru.practicum.shareit.booking.ticket.BookingTicketDto;
+import ru.practicum.shareit.booking.ticket.BookingTicketService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -14,6 +26,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookingController {
     private final BookingService bookingService;
+    private final BookingStatusStream bookingStatusStream;
+    private final BookingTicketService bookingTicketService;
+    private final BookingExport bookingExport;
 
     @PostMapping
     public BookingDto createBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
@@ -21,6 +36,27 @@ public class BookingController {
         return bookingService.create(userId, booking);
     }
 
+    @PostMapping(path = "/bulk")
+    public List<BookingDto> createBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                           @RequestBody List<BookingRequest> bookings) {
+        return bookingService.createAll(userId, bookings);
+    }
+
+    @PostMapping(path = "/async")
+    public ResponseEntity<BookingTicketDto> enqueueBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                           @RequestBody BookingRequest booking) {
+        BookingTicketDto ticket = bookingTicketService.enqueue(userId, booking);
+        return ResponseEntity.accepted()
+                .location(URI.create("/bookings/tickets/" + ticket.getId()))
+                .body(ticket);
+    }
+
+    @GetMapping(path = "/tickets/{ticketId}")
+    public BookingTicketDto getTicket(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                      @PathVariable Long ticketId) {
+        return bookingTicketService.getTicket(userId, ticketId);
+    }
+
     @PatchMapping(path = "/{bookingId}")
     public BookingDto approveOrRejectBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
                                              @PathVariable Long bookingId,
@@ -28,6 +64,17 @@ public class BookingController {
         return bookingService.approveOrRejectBooking(userId, bookingId, approved);
     }
 
+    @PatchMapping(path = "/batch")
+    public List<BookingDecisionResult> approveOrRejectBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                               @RequestBody List<BookingDecision> decisions) {
+        return bookingService.approveOrRejectBookings(userId, decisions);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatusChanges(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        return bookingStatusStream.subscribe(userId);
+    }
+
     @GetMapping(path = "/{bookingId}")
     public BookingDto getBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
                                  @PathVariable Long bookingId) {
@@ -35,14 +82,35 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getCustomerBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                @RequestParam(defaultValue = "ALL") State state) {
-        return bookingService.getCustomerBookings(userId, state);
+    public ResponseEntity<List<BookingDto>> getCustomerBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                @RequestParam(defaultValue = "ALL") State state,
+                                                                @RequestParam(defaultValue = "0") int from,
+                                                                @RequestParam(defaultValue = "10") int size,
+                                                                @RequestParam(required = false) String cursor) {
+        KeysetPageRequest page = KeysetPageRequest.of(from, size, cursor);
+        List<BookingDto> bookings = bookingService.getCustomerBookings(userId, state, page);
+        return ResponseEntity.ok()
+                .headers(page.nextCursorHeaders(bookings, BookingDto::getStart, BookingDto::getId))
+                .body(bookings);
     }
 
     @GetMapping(path = "/owner")
-    public List<BookingDto> getOwnersBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                              @RequestParam(defaultValue = "ALL") State state) {
-        return bookingService.getOwnersBookings(userId, state);
+    public ResponseEntity<List<BookingDto>> getOwnersBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                              @RequestParam(defaultValue = "ALL") State state,
+                                                              @RequestParam(defaultValue = "0") int from,
+                                                              @RequestParam(defaultValue = "10") int size,
+                                                              @RequestParam(required = false) String cursor) {
+        KeysetPageRequest page = KeysetPageRequest.of(from, size, cursor);
+        List<BookingDto> bookings = bookingService.getOwnersBookings(userId, state, page);
+        return ResponseEntity.ok()
+                .headers(page.nextCursorHeaders(bookings, BookingDto::getStart, BookingDto::getId))
+                .body(bookings);
+    }
+
+    @GetMapping(path = "/owner/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOwnersBookings(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(bookingExport.ownerBookings(userId));
     }
-}
\ No newline at end of file
+}
@@ -1,40 +1,65 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.availability.BookingInterval;
+import ru.practicum.shareit.booking.dto.ItemBookingTime;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> getBookingsByBookerId(Long bookerId);
+    String BEFORE_CURSOR = " AND (b.start < :cursorStart OR (b.start = :cursorStart AND b.id < :cursorId))";
+    String NEWEST_FIRST = " ORDER BY b.start DESC, b.id DESC";
 
-    List<Booking> getBookingsByBookerIdAndStatus(Long bookerId, Status status);
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId" + BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByBookerId(Long bookerId, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    List<Booking> getBookingsByBookerIdAndEndBefore(Long bookerId, LocalDateTime endBefore);
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId AND b.status = :status" + BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByBookerIdAndStatus(Long bookerId, Status status,
+                                                 LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    List<Booking> getBookingsByBookerIdAndStartAfter(Long bookerId, LocalDateTime startAfter);
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId AND b.end < :endBefore" + BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByBookerIdAndEndBefore(Long bookerId, LocalDateTime endBefore,
+                                                    LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId AND :currentTime BETWEEN b.start and b.end")
-    List<Booking> getBookingsByBookerIdAndCurrentTime(Long bookerId, LocalDateTime currentTime);
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId AND b.start > :startAfter" + BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByBookerIdAndStartAfter(Long bookerId, LocalDateTime startAfter,
+                                                     LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId")
-    List<Booking> getBookingsByOwnerId(Long ownerId);
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId AND :currentTime BETWEEN b.start and b.end" +
+            BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByBookerIdAndCurrentTime(Long bookerId, LocalDateTime currentTime,
+                                                      LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId AND b.status = :status")
-    List<Booking> getBookingsByOwnerIdAndStatus(Long ownerId, Status status);
+    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId" + BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByOwnerId(Long ownerId, LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId AND b.end < :endBefore")
-    List<Booking> getBookingsByOwnerIdAndEndBefore(Long ownerId, LocalDateTime endBefore);
+    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId AND b.status = :status" +
+            BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByOwnerIdAndStatus(Long ownerId, Status status,
+                                                LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId AND b.start > :startAfter")
-    List<Booking> getBookingsByOwnerIdAndStartAfter(Long ownerId, LocalDateTime startAfter);
+    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId AND b.end < :endBefore" +
+            BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByOwnerIdAndEndBefore(Long ownerId, LocalDateTime endBefore,
+                                                   LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
-    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId AND :currentTime BETWEEN b.start and b.end")
-    List<Booking> getBookingsByOwnerIdAndCurrentTime(Long ownerId, LocalDateTime currentTime);
+    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId AND b.start > :startAfter" +
+            BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByOwnerIdAndStartAfter(Long ownerId, LocalDateTime startAfter,
+                                                    LocalDateTime cursorStart, Long cursorId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b JOIN b.item i WHERE i.ownerId = :ownerId AND :currentTime BETWEEN b.start and b.end" +
+            BEFORE_CURSOR + NEWEST_FIRST)
+    List<Booking> getBookingsByOwnerIdAndCurrentTime(Long ownerId, LocalDateTime currentTime,
+                                                     LocalDateTime cursorStart, Long cursorId, Pageable pageable);
 
     @Query("SELECT b FROM Booking b " +
             "JOIN b.item i " +
@@ -43,4 +68,29 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     Optional<Booking> getBookingByItemIdAndBookerIdAndEndBefore(Long itemId, Long bookerId, LocalDateTime endBefore);
 
     List<Booking> getBookingsByItemId(Long itemId);
-}
\ No newline at end of file
+
+    @Query("SELECT b.item.id AS itemId, b.id AS bookingId, b.start AS start, b.end AS end FROM Booking b " +
+            "WHERE b.item.id IN :itemIds AND b.status = :status AND (" +
+            "(b.end < :now AND b.end = (SELECT MAX(l.end) FROM Booking l " +
+            "WHERE l.item.id = b.item.id AND l.status = :status AND l.end < :now)) " +
+            "OR (b.start > :now AND b.start = (SELECT MIN(n.start) FROM Booking n " +
+            "WHERE n.item.id = b.item.id AND n.status = :status AND n.start > :now)))")
+    List<ItemBookingTime> findLastAndNextBookingTimes(Collection<Long> itemIds, Status status, LocalDateTime now);
+
+    @Query("SELECT b.item.id AS itemId, b.id AS bookingId, b.start AS start, b.end AS end FROM Booking b " +
+            "WHERE b.item.id IN :itemIds AND b.status = :status AND :now BETWEEN b.start AND b.end")
+    List<ItemBookingTime> findCurrentBookingTimes(Collection<Long> itemIds, Status status, LocalDateTime now);
+
+    @Query("SELECT new ru.practicum.shareit.booking.availability.BookingInterval(b.id, b.start, b.end) " +
+            "FROM Booking b WHERE b.item.id = :itemId AND b.status IN :statuses AND b.end > :endAfter")
+    List<BookingInterval> findIntervalsByItemId(Long itemId, Collection<Status> statuses, LocalDateTime endAfter);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.item JOIN FETCH b.booker WHERE b.id IN :ids")
+    List<Booking> findAllWithItemAndBookerByIdIn(Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status WHERE b.id = :bookingId " +
+            "AND b.status = ru.practicum.shareit.booking.model.Status.WAITING " +
+            "AND b.item.id IN (SELECT i.id FROM Item i WHERE i.ownerId = :ownerId)")
+    int updateStatusIfWaiting(Long bookingId, Long ownerId, Status status);
+}
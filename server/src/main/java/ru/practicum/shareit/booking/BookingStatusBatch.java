@@ -0,0 +1,52 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingDecision;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.sql.SqlStatementStats;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Applies many WAITING -> APPROVED/REJECTED transitions as one JDBC batch of conditional updates,
+ * with the same condition as {@link BookingRepository#updateStatusIfWaiting}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingStatusBatch {
+    private static final String UPDATE_IF_WAITING = "UPDATE bookings SET status = ? " +
+            "WHERE id = ? AND status = 'WAITING' AND item_id IN (SELECT id FROM items WHERE owner_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Returns, for every decision in order, whether its booking changed status.
+     */
+    public boolean[] updateIfWaiting(Long ownerId, List<BookingDecision> decisions) {
+        // как flushAutomatically/clearAutomatically у updateStatusIfWaiting: батч идет мимо контекста Hibernate
+        entityManager.flush();
+        long start = System.nanoTime();
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_IF_WAITING, decisions, decisions.size(),
+                (statement, decision) -> {
+                    statement.setString(1, (decision.getApproved() ? Status.APPROVED : Status.REJECTED).name());
+                    statement.setLong(2, decision.getBookingId());
+                    statement.setLong(3, ownerId);
+                });
+        SqlStatementStats.batchExecuted(System.nanoTime() - start);
+        entityManager.clear();
+
+        boolean[] updated = new boolean[decisions.size()];
+        int i = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                updated[i++] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.booking.availability;
+
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.time.LocalDateTime;
+
+public record BookingInterval(Long bookingId, LocalDateTime start, LocalDateTime end) {
+    public static BookingInterval of(Booking booking) {
+        return new BookingInterval(booking.getId(), booking.getStart(), booking.getEnd());
+    }
+}
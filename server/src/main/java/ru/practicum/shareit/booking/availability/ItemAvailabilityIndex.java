@@ -0,0 +1,126 @@
+package ru.practicum.shareit.booking.availability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.TimeSlotDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.error.exception.ConflictException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory view of the time each item is held by WAITING or APPROVED bookings.
+ * Schedules are loaded from the database on first use and then kept in step with create, approve and reject;
+ * changes made inside a transaction are undone if that transaction rolls back.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemAvailabilityIndex {
+    static final List<Status> BLOCKING_STATUSES = List.of(Status.WAITING, Status.APPROVED);
+
+    private final BookingRepository bookingRepository;
+    private final Map<Long, ItemSchedule> schedules = new ConcurrentHashMap<>();
+
+    public Booking reserve(Booking booking, Supplier<Booking> save) {
+        return withSchedule(booking.getItem().getId(), schedule -> {
+            checkFree(schedule, booking);
+            Booking savedBooking = save.get();
+            BookingInterval interval = BookingInterval.of(savedBooking);
+            schedule.add(interval);
+            onRollback(schedule, () -> schedule.remove(interval.bookingId()));
+            return savedBooking;
+        });
+    }
+
+    public void hold(Booking booking) {
+        withSchedule(booking.getItem().getId(), schedule -> {
+            if (!schedule.contains(booking.getId())) {
+                checkFree(schedule, booking);
+                schedule.add(BookingInterval.of(booking));
+                onRollback(schedule, () -> schedule.remove(booking.getId()));
+            }
+            return null;
+        });
+    }
+
+    public void release(Booking booking) {
+        withSchedule(booking.getItem().getId(), schedule -> {
+            BookingInterval removed = schedule.remove(booking.getId());
+            if (removed != null) {
+                onRollback(schedule, () -> schedule.add(removed));
+            }
+            return null;
+        });
+    }
+
+    public List<TimeSlotDto> freeSlots(Long itemId, LocalDateTime from, LocalDateTime to) {
+        return withSchedule(itemId, schedule -> schedule.freeSlots(from, to));
+    }
+
+    private <T> T withSchedule(Long itemId, Function<ItemSchedule, T> action) {
+        ItemSchedule schedule = schedules.computeIfAbsent(itemId, id -> new ItemSchedule());
+        schedule.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (schedule.needsLoading()) {
+                schedule.load(bookingRepository.findIntervalsByItemId(itemId, BLOCKING_STATUSES, now));
+                // данные могли быть прочитаны из ещё не зафиксированной транзакции
+                afterCompletion(schedule, rolledBack -> {
+                    if (rolledBack) {
+                        schedule.markStale();
+                    }
+                });
+            } else {
+                schedule.prune(now);
+            }
+            return action.apply(schedule);
+        } finally {
+            schedule.unlock();
+        }
+    }
+
+    private void checkFree(ItemSchedule schedule, Booking booking) {
+        if (schedule.overlaps(booking.getStart(), booking.getEnd())) {
+            throw new ConflictException(String.format("Item %d is already booked between %s and %s",
+                    booking.getItem().getId(), booking.getStart(), booking.getEnd()));
+        }
+    }
+
+    private void onRollback(ItemSchedule schedule, Runnable undo) {
+        schedule.beginPending();
+        afterCompletion(schedule, rolledBack -> {
+            schedule.endPending();
+            if (rolledBack) {
+                undo.run();
+            }
+        });
+    }
+
+    private void afterCompletion(ItemSchedule schedule, Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(false);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                schedule.lock();
+                try {
+                    callback.accept(status == STATUS_ROLLED_BACK);
+                } finally {
+                    schedule.unlock();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package ru.practicum.shareit.booking.availability;
+
+import ru.practicum.shareit.booking.dto.TimeSlotDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Busy time of a single item, kept as disjoint blocks sorted by start.
+ * Every block remembers the bookings it was merged from, so a single booking can be released later.
+ * Not thread-safe by itself: callers hold {@link #lock()} around every access.
+ */
+class ItemSchedule {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final NavigableMap<LocalDateTime, Block> blocks = new TreeMap<>();
+    private final Map<Long, BookingInterval> intervals = new HashMap<>();
+    private boolean loaded;
+    private boolean stale;
+    private int pending;
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    boolean needsLoading() {
+        return !loaded || stale && pending == 0;
+    }
+
+    void load(List<BookingInterval> loadedIntervals) {
+        blocks.clear();
+        intervals.clear();
+        loadedIntervals.forEach(this::add);
+        loaded = true;
+        stale = false;
+    }
+
+    void markStale() {
+        stale = true;
+    }
+
+    void beginPending() {
+        pending++;
+    }
+
+    void endPending() {
+        pending--;
+    }
+
+    boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        Map.Entry<LocalDateTime, Block> entry = blocks.lowerEntry(end);
+        return entry != null && entry.getValue().end().isAfter(start);
+    }
+
+    boolean contains(Long bookingId) {
+        return intervals.containsKey(bookingId);
+    }
+
+    void add(BookingInterval interval) {
+        intervals.put(interval.bookingId(), interval);
+        merge(interval);
+    }
+
+    BookingInterval remove(Long bookingId) {
+        BookingInterval interval = intervals.remove(bookingId);
+        if (interval == null) {
+            return null;
+        }
+        Block block = blocks.remove(blocks.floorKey(interval.start()));
+        block.members().remove(interval);
+        block.members().forEach(this::merge);
+        return interval;
+    }
+
+    List<TimeSlotDto> freeSlots(LocalDateTime from, LocalDateTime to) {
+        List<TimeSlotDto> slots = new ArrayList<>();
+        LocalDateTime free = from;
+        Map.Entry<LocalDateTime, Block> previous = blocks.lowerEntry(from);
+        if (previous != null && previous.getValue().end().isAfter(free)) {
+            free = previous.getValue().end();
+        }
+        for (Block block : blocks.subMap(from, true, to, false).values()) {
+            if (block.start().isAfter(free)) {
+                slots.add(new TimeSlotDto(free, block.start()));
+            }
+            free = block.end();
+        }
+        if (free.isBefore(to)) {
+            slots.add(new TimeSlotDto(free, to));
+        }
+        return slots;
+    }
+
+    void prune(LocalDateTime now) {
+        while (!blocks.isEmpty() && !blocks.firstEntry().getValue().end().isAfter(now)) {
+            blocks.pollFirstEntry().getValue().members().forEach(member -> intervals.remove(member.bookingId()));
+        }
+    }
+
+    private void merge(BookingInterval interval) {
+        LocalDateTime start = interval.start();
+        LocalDateTime end = interval.end();
+        List<BookingInterval> members = new ArrayList<>();
+        members.add(interval);
+
+        Map.Entry<LocalDateTime, Block> entry = blocks.lowerEntry(end);
+        while (entry != null && entry.getValue().end().isAfter(start)) {
+            Block block = blocks.remove(entry.getKey());
+            members.addAll(block.members());
+            if (block.start().isBefore(start)) {
+                start = block.start();
+            }
+            if (block.end().isAfter(end)) {
+                end = block.end();
+            }
+            entry = blocks.lowerEntry(block.start());
+        }
+        blocks.put(start, new Block(start, end, members));
+    }
+
+    private record Block(LocalDateTime start, LocalDateTime end, List<BookingInterval> members) {
+    }
+}
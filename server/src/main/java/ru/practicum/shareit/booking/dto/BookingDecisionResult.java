@@ -0,0 +1,30 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Data;
+
+/**
+ * Outcome of one decision in a batch: {@code code} is the HTTP status the single-booking endpoint would answer.
+ */
+@Data
+public class BookingDecisionResult {
+    private Long bookingId;
+    private int code;
+    private BookingDto booking;
+    private String error;
+
+    public static BookingDecisionResult ok(BookingDto booking) {
+        BookingDecisionResult result = new BookingDecisionResult();
+        result.setBookingId(booking.getId());
+        result.setCode(200);
+        result.setBooking(booking);
+        return result;
+    }
+
+    public static BookingDecisionResult failed(Long bookingId, int code, String error) {
+        BookingDecisionResult result = new BookingDecisionResult();
+        result.setBookingId(bookingId);
+        result.setCode(code);
+        result.setError(error);
+        return result;
+    }
+}
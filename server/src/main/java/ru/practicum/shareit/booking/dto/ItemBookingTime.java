@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+public interface ItemBookingTime {
+    Long getItemId();
+
+    Long getBookingId();
+
+    LocalDateTime getStart();
+
+    LocalDateTime getEnd();
+}
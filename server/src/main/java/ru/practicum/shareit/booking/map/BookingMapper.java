@@ -0,0 +1,11 @@
+package ru.practicum.shareit.booking.map;
+
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.model.Booking;
+
+public interface BookingMapper {
+    BookingDto toDto(Booking booking);
+
+    Booking toBooking(BookingRequest bookingRequest);
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.booking.map;
+
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.map.UserMapper;
+
+@RequiredArgsConstructor
+public class BookingMapperImpl implements BookingMapper {
+    private final UserMapper userMapper;
+
+    @Override
+    public BookingDto toDto(Booking booking) {
+        BookingDto dto = new BookingDto();
+        dto.setId(booking.getId());
+        dto.setStart(booking.getStart());
+        dto.setEnd(booking.getEnd());
+        dto.setItem(copyItem(booking.getItem()));
+        dto.setBooker(userMapper.copy(booking.getBooker()));
+        dto.setStatus(booking.getStatus());
+        return dto;
+    }
+
+    @Override
+    public Booking toBooking(BookingRequest bookingRequest) {
+        Booking booking = new Booking();
+        booking.setStart(bookingRequest.getStart());
+        booking.setEnd(bookingRequest.getEnd());
+        return booking;
+    }
+
+    private Item copyItem(Item item) {
+        if (item == null) {
+            return null;
+        }
+        Item copy = new Item();
+        copy.setId(item.getId());
+        copy.setName(item.getName());
+        copy.setDescription(item.getDescription());
+        copy.setAvailable(item.getAvailable());
+        copy.setOwnerId(item.getOwnerId());
+        copy.setRequestId(item.getRequestId());
+        return copy;
+    }
+}
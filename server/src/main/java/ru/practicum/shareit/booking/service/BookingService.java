@@ -1,19 +1,26 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingDecision;
+import ru.practicum.shareit.booking.dto.BookingDecisionResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 
 import java.util.List;
 
 public interface BookingService {
     BookingDto create(Long userId, BookingRequest bookingRequest);
 
+    List<BookingDto> createAll(Long userId, List<BookingRequest> bookingRequests);
+
     BookingDto approveOrRejectBooking(Long userId, Long bookingId, Boolean status);
 
+    List<BookingDecisionResult> approveOrRejectBookings(Long userId, List<BookingDecision> decisions);
+
     BookingDto getBooking(Long userId, Long bookingId);
 
-    List<BookingDto> getCustomerBookings(Long userId, State state);
+    List<BookingDto> getCustomerBookings(Long userId, State state, KeysetPageRequest page);
 
-    List<BookingDto> getOwnersBookings(Long userId, State state);
+    List<BookingDto> getOwnersBookings(Long userId, State state, KeysetPageRequest page);
 }
\ No newline at end of file
@@ -1,41 +1,61 @@
 package ru.practicum.shareit.booking.service.impl;
 
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatusBatch;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.booking.dto.BookingDecision;
+import ru.practicum.shareit.booking.dto.BookingDecisionResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.map.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.stream.BookingStatusEvent;
+import ru.practicum.shareit.error.exception.ConflictException;
 import ru.practicum.shareit.error.exception.NotAvailableException;
 import ru.practicum.shareit.error.exception.NotBookerException;
 import ru.practicum.shareit.error.exception.NotFoundException;
 import ru.practicum.shareit.error.exception.NotOwnerException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.summary.ItemBookingSummaryService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
-    private final ModelMapper mapper;
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final BookingMapper bookingMapper;
     private final BookingRepository bookingRepository;
+    private final BookingStatusBatch bookingStatusBatch;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ItemAvailabilityIndex availabilityIndex;
+    private final ItemBookingSummaryService summaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public BookingDto create(Long userId, BookingRequest bookingRequest) {
-        Booking booking = mapper.map(bookingRequest, Booking.class);
+        Booking booking = bookingMapper.toBooking(bookingRequest);
 
         Item item = itemRepository.findById(bookingRequest.getItemId())
                 .orElseThrow(() -> new NotFoundException("Item not found"));
@@ -51,31 +71,110 @@ public class BookingServiceImpl implements BookingService {
         booking.setBooker(booker);
         booking.setStatus(Status.WAITING);
 
-        Booking savedBooking = bookingRepository.save(booking);
-        return mapper.map(savedBooking, BookingDto.class);
+        Booking savedBooking = availabilityIndex.reserve(booking, () -> bookingRepository.save(booking));
+        return bookingMapper.toDto(savedBooking);
+    }
+
+    @Override
+    public List<BookingDto> createAll(Long userId, List<BookingRequest> bookingRequests) {
+        checkBatchSize(bookingRequests);
+        User booker = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Booker not found"));
+        Map<Long, Item> items = itemRepository.findAllById(bookingRequests.stream()
+                        .map(BookingRequest::getItemId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<Booking> savedBookings = new ArrayList<>(bookingRequests.size());
+        for (BookingRequest bookingRequest : bookingRequests) {
+            Item item = items.get(bookingRequest.getItemId());
+            if (item == null) {
+                throw new NotFoundException(String.format("Item %d not found", bookingRequest.getItemId()));
+            }
+            if (Boolean.FALSE.equals(item.getAvailable())) {
+                throw new NotAvailableException(String.format("Item %s is not available", item.getId()));
+            }
+            Booking booking = bookingMapper.toBooking(bookingRequest);
+            booking.setItem(item);
+            booking.setBooker(booker);
+            booking.setStatus(Status.WAITING);
+            // id берётся из пула последовательности, сам INSERT откладывается до flush
+            savedBookings.add(availabilityIndex.reserve(booking, () -> bookingRepository.save(booking)));
+        }
+        // все вставки уходят одним JDBC-батчем, ошибки базы - здесь, а не при коммите
+        bookingRepository.flush();
+        return savedBookings.stream().map(bookingMapper::toDto).toList();
     }
 
     @Override
     public BookingDto approveOrRejectBooking(Long userId, Long bookingId, Boolean approved) {
-        if (!checkUserBuId(userId)) {
-            throw new NotAvailableException(String.format("Unavailable owner id %d", userId));
+        Status status = approved ? Status.APPROVED : Status.REJECTED;
+        // переход делается одним условным UPDATE: из двух одновременных решений по брони проходит только одно
+        if (bookingRepository.updateStatusIfWaiting(bookingId, userId, status) == 0) {
+            throw transitionFailure(userId, bookingId);
         }
         Booking booking = getBooking(bookingId);
+        onDecided(booking, approved);
+        return bookingMapper.toDto(booking);
+    }
 
-        if (!Objects.equals(booking.getItem().getOwnerId(), userId)) {
-            throw new NotOwnerException(String.format("User %d is not the owner of the booking", userId));
+    @Override
+    public List<BookingDecisionResult> approveOrRejectBookings(Long userId, List<BookingDecision> decisions) {
+        checkBatchSize(decisions);
+        if (decisions.stream().anyMatch(d -> d.getBookingId() == null || d.getApproved() == null)) {
+            throw new IllegalArgumentException("Each decision needs bookingId and approved");
+        }
+        // все переходы уходят одним JDBC-батчем, затем брони читаются одним запросом
+        boolean[] updated = bookingStatusBatch.updateIfWaiting(userId, decisions);
+        Map<Long, Booking> bookings = bookingRepository.findAllWithItemAndBookerByIdIn(
+                        decisions.stream().map(BookingDecision::getBookingId).toList()).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        List<BookingDecisionResult> results = new ArrayList<>(decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            BookingDecision decision = decisions.get(i);
+            Long bookingId = decision.getBookingId();
+            Status status = decision.getApproved() ? Status.APPROVED : Status.REJECTED;
+            Booking booking = bookings.get(bookingId);
+            if (booking == null) {
+                results.add(BookingDecisionResult.failed(bookingId, 404,
+                        String.format("Booking %d not found", bookingId)));
+            } else if (!Objects.equals(booking.getItem().getOwnerId(), userId)) {
+                results.add(BookingDecisionResult.failed(bookingId, 403,
+                        String.format("User %d is not the owner of the booking", userId)));
+            } else if (!updated[i] || booking.getStatus() != status) {
+                results.add(BookingDecisionResult.failed(bookingId, 409,
+                        String.format("Booking %d is already %s", bookingId, booking.getStatus())));
+            } else {
+                onDecided(booking, decision.getApproved());
+                results.add(BookingDecisionResult.ok(bookingMapper.toDto(booking)));
+            }
         }
+        return results;
+    }
 
-        setBookingStatus(booking, approved);
-        return mapper.map(bookingRepository.save(booking), BookingDto.class);
+    private static void checkBatchSize(List<?> batch) {
+        if (batch == null || batch.isEmpty() || batch.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(String.format("Expected from 1 to %d entries", MAX_BATCH_SIZE));
+        }
     }
 
-    private void setBookingStatus(Booking booking, boolean status) {
-        if (status) {
-            booking.setStatus(Status.APPROVED);
+    private void onDecided(Booking booking, boolean approved) {
+        if (approved) {
+            availabilityIndex.hold(booking);
         } else {
-            booking.setStatus(Status.REJECTED);
+            availabilityIndex.release(booking);
+        }
+        summaryService.onStatusChanged(booking, Status.WAITING);
+        eventPublisher.publishEvent(BookingStatusEvent.of(booking));
+    }
+
+    private RuntimeException transitionFailure(Long userId, Long bookingId) {
+        Booking booking = getBooking(bookingId);
+        if (!Objects.equals(booking.getItem().getOwnerId(), userId)) {
+            return new NotOwnerException(String.format("User %d is not the owner of the booking", userId));
         }
+        return new ConflictException(String.format("Booking %d is already %s", bookingId, booking.getStatus()));
     }
 
     @Override
@@ -86,7 +185,7 @@ public class BookingServiceImpl implements BookingService {
         }
 
         Booking booking = getBooking(bookingId);
-        return mapper.map(booking, BookingDto.class);
+        return bookingMapper.toDto(booking);
     }
 
     private Booking getBooking(Long bookingId) {
@@ -96,44 +195,58 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingDto> getCustomerBookings(Long userId, State state) {
+    public List<BookingDto> getCustomerBookings(Long userId, State state, KeysetPageRequest page) {
         if (!checkUserBuId(userId)) {
             throw new NotBookerException(String.format("Unavailable customer id %d", userId));
         }
 
+        LocalDateTime cursorStart = page.cursorTime();
+        Long cursorId = page.cursorId();
+        Pageable pageable = page.pageable();
         List<Booking> bookings;
         switch (state) {
-            case ALL -> bookings = bookingRepository.getBookingsByBookerId(userId);
-            case WAITING -> bookings = bookingRepository.getBookingsByBookerIdAndStatus(userId, Status.WAITING);
-            case PAST -> bookings = bookingRepository.getBookingsByBookerIdAndEndBefore(userId, LocalDateTime.now());
-            case CURRENT ->
-                    bookings = bookingRepository.getBookingsByBookerIdAndCurrentTime(userId, LocalDateTime.now());
-            case FUTURE -> bookings = bookingRepository.getBookingsByBookerIdAndStartAfter(userId, LocalDateTime.now());
-            case REJECTED -> bookings = bookingRepository.getBookingsByBookerIdAndStatus(userId, Status.REJECTED);
+            case ALL -> bookings = bookingRepository.getBookingsByBookerId(userId, cursorStart, cursorId, pageable);
+            case WAITING -> bookings = bookingRepository.getBookingsByBookerIdAndStatus(userId, Status.WAITING,
+                    cursorStart, cursorId, pageable);
+            case PAST -> bookings = bookingRepository.getBookingsByBookerIdAndEndBefore(userId, LocalDateTime.now(),
+                    cursorStart, cursorId, pageable);
+            case CURRENT -> bookings = bookingRepository.getBookingsByBookerIdAndCurrentTime(userId, LocalDateTime.now(),
+                    cursorStart, cursorId, pageable);
+            case FUTURE -> bookings = bookingRepository.getBookingsByBookerIdAndStartAfter(userId, LocalDateTime.now(),
+                    cursorStart, cursorId, pageable);
+            case REJECTED -> bookings = bookingRepository.getBookingsByBookerIdAndStatus(userId, Status.REJECTED,
+                    cursorStart, cursorId, pageable);
             default -> throw new NotAvailableException(String.format("State %s is not available", state));
         }
-        return bookings.stream().map(booking -> mapper.map(booking, BookingDto.class)).toList();
+        return bookings.stream().map(bookingMapper::toDto).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingDto> getOwnersBookings(Long userId, State state) {
+    public List<BookingDto> getOwnersBookings(Long userId, State state, KeysetPageRequest page) {
         if (!checkUserBuId(userId)) {
             throw new NotFoundException(String.format("Unavailable owner id %d", userId));
         }
 
+        LocalDateTime cursorStart = page.cursorTime();
+        Long cursorId = page.cursorId();
+        Pageable pageable = page.pageable();
         List<Booking> bookings;
         switch (state) {
-            case ALL -> bookings = bookingRepository.getBookingsByOwnerId(userId);
-            case WAITING -> bookings = bookingRepository.getBookingsByOwnerIdAndStatus(userId, Status.WAITING);
-            case PAST -> bookings = bookingRepository.getBookingsByOwnerIdAndEndBefore(userId, LocalDateTime.now());
-            case CURRENT ->
-                    bookings = bookingRepository.getBookingsByOwnerIdAndCurrentTime(userId, LocalDateTime.now());
-            case FUTURE -> bookings = bookingRepository.getBookingsByOwnerIdAndStartAfter(userId, LocalDateTime.now());
-            case REJECTED -> bookings = bookingRepository.getBookingsByOwnerIdAndStatus(userId, Status.REJECTED);
+            case ALL -> bookings = bookingRepository.getBookingsByOwnerId(userId, cursorStart, cursorId, pageable);
+            case WAITING -> bookings = bookingRepository.getBookingsByOwnerIdAndStatus(userId, Status.WAITING,
+                    cursorStart, cursorId, pageable);
+            case PAST -> bookings = bookingRepository.getBookingsByOwnerIdAndEndBefore(userId, LocalDateTime.now(),
+                    cursorStart, cursorId, pageable);
+            case CURRENT -> bookings = bookingRepository.getBookingsByOwnerIdAndCurrentTime(userId, LocalDateTime.now(),
+                    cursorStart, cursorId, pageable);
+            case FUTURE -> bookings = bookingRepository.getBookingsByOwnerIdAndStartAfter(userId, LocalDateTime.now(),
+                    cursorStart, cursorId, pageable);
+            case REJECTED -> bookings = bookingRepository.getBookingsByOwnerIdAndStatus(userId, Status.REJECTED,
+                    cursorStart, cursorId, pageable);
             default -> throw new NotAvailableException(String.format("State %s is not available", state));
         }
-        return bookings.stream().map(booking -> mapper.map(booking, BookingDto.class)).toList();
+        return bookings.stream().map(bookingMapper::toDto).toList();
     }
 
     private boolean checkUserBuId(Long userId) {
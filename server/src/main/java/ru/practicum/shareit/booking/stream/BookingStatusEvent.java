@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.stream;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.time.LocalDateTime;
+
+public record BookingStatusEvent(Long bookingId, Long itemId, Long bookerId, Long ownerId, Status status,
+                                 LocalDateTime start, LocalDateTime end) {
+    public static BookingStatusEvent of(Booking booking) {
+        return new BookingStatusEvent(booking.getId(), booking.getItem().getId(), booking.getBooker().getId(),
+                booking.getItem().getOwnerId(), booking.getStatus(), booking.getStart(), booking.getEnd());
+    }
+}
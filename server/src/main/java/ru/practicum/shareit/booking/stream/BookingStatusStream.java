@@ -0,0 +1,118 @@
+package ru.practicum.shareit.booking.stream;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.request.match.RequestMatchEvent;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Pushes booking status changes to the booker and the item owner over Server-Sent Events,
+ * along with requests that an owner's new item could fulfil.
+ * Events are sent only after the transaction that changed the status commits, and every open stream gets
+ * a heartbeat comment so idle connections stay open through proxies and dead ones are noticed.
+ */
+@Component
+public class BookingStatusStream {
+    static final String EVENT_NAME = "booking-status";
+    static final String MATCH_EVENT_NAME = "request-match";
+
+    private final UserRepository userRepository;
+    private final long timeout;
+    private final int bufferSize;
+    private final Executor executor;
+    private final Map<Long, Set<BookingStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BookingStatusStream(UserRepository userRepository,
+                               @Value("${shareit.booking-stream.timeout:1800000}") long timeout,
+                               @Value("${shareit.booking-stream.buffer-size:32}") int bufferSize) {
+        this(userRepository, timeout, bufferSize, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    BookingStatusStream(UserRepository userRepository, long timeout, int bufferSize, Executor executor) {
+        this.userRepository = userRepository;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        this.executor = executor;
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(String.format("Unavailable user id %d", userId));
+        }
+        BookingStreamSubscriber subscriber = new BookingStreamSubscriber(new SseEmitter(timeout), bufferSize);
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        Runnable unsubscribe = () -> subscribers.computeIfPresent(userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        subscriber.emitter().onCompletion(unsubscribe);
+        subscriber.emitter().onTimeout(unsubscribe);
+        subscriber.emitter().onError(e -> unsubscribe.run());
+        return subscriber.emitter();
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(BookingStatusEvent event) {
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(String.valueOf(event.bookingId()))
+                .data(event)
+                .build();
+        Stream.of(event.bookerId(), event.ownerId())
+                .distinct()
+                .flatMap(userId -> subscribers.getOrDefault(userId, Set.of()).stream())
+                .forEach(subscriber -> push(subscriber, message));
+    }
+
+    @TransactionalEventListener
+    public void onRequestMatched(RequestMatchEvent event) {
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .name(MATCH_EVENT_NAME)
+                .data(event)
+                .build();
+        subscribers.getOrDefault(event.ownerId(), Set.of()).forEach(subscriber -> push(subscriber, message));
+    }
+
+    @Scheduled(fixedRateString = "${shareit.booking-stream.heartbeat:15000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> message = SseEmitter.event().comment("heartbeat").build();
+        subscribers.values().forEach(userSubscribers ->
+                userSubscribers.forEach(subscriber -> push(subscriber, message)));
+    }
+
+    int subscriberCount(Long userId) {
+        return subscribers.getOrDefault(userId, Set.of()).size();
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(BookingStreamSubscriber::close));
+        subscribers.clear();
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void push(BookingStreamSubscriber subscriber, Set<DataWithMediaType> message) {
+        if (subscriber.offer(message)) {
+            executor.execute(subscriber::drain);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.booking.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open stream with its own bounded buffer. Events are written by a single drainer at a time, so a slow
+ * client only holds up its own stream; a client that lets the buffer fill up is disconnected and is expected
+ * to reconnect and re-read its bookings.
+ */
+final class BookingStreamSubscriber {
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    BookingStreamSubscriber(SseEmitter emitter, int bufferSize) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean offer(Set<DataWithMediaType> event) {
+        if (closed) {
+            return false;
+        }
+        if (!buffer.offer(event)) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    void drain() {
+        // событие могло попасть в буфер, пока предыдущий проход уже заканчивался, поэтому проверяем еще раз
+        while (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+            try {
+                Set<DataWithMediaType> event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                buffer.clear();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+        emitter.complete();
+    }
+}
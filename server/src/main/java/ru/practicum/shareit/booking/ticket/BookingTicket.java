@@ -0,0 +1,31 @@
+package ru.practicum.shareit.booking.ticket;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "booking_tickets")
+public class BookingTicket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "booker_id", nullable = false)
+    private Long bookerId;
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+    @Column(name = "start_date", nullable = false)
+    private LocalDateTime start;
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime end;
+    @Enumerated(EnumType.STRING)
+    private TicketStatus status;
+    @Column(name = "booking_id")
+    private Long bookingId;
+    private String error;
+    private int attempts;
+    private LocalDateTime created;
+    private LocalDateTime processed;
+}
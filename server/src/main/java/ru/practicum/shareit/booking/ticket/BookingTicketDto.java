@@ -0,0 +1,15 @@
+package ru.practicum.shareit.booking.ticket;
+
+import lombok.Data;
+import ru.practicum.shareit.booking.dto.BookingDto;
+
+import java.time.LocalDateTime;
+
+@Data
+public class BookingTicketDto {
+    private Long id;
+    private TicketStatus status;
+    private LocalDateTime created;
+    private String error;
+    private BookingDto booking;
+}
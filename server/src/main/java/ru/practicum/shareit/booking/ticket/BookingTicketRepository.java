@@ -0,0 +1,37 @@
+package ru.practicum.shareit.booking.ticket;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingTicketRepository extends JpaRepository<BookingTicket, Long> {
+    // таймаут -2 означает SKIP LOCKED: пакет берётся без ожидания чужих блокировок. Очередь разбирают воркеры одного
+    // экземпляра сервера, конфликты бронирований проверяются по его индексу в памяти
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM BookingTicket t WHERE t.status = :status ORDER BY t.id")
+    List<BookingTicket> findForProcessing(TicketStatus status, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM BookingTicket t WHERE t.id = :id AND t.status = :status")
+    Optional<BookingTicket> findForProcessing(Long id, TicketStatus status);
+
+    @Query("SELECT t.id FROM BookingTicket t WHERE t.status = :status ORDER BY t.id")
+    List<Long> findIdsByStatus(TicketStatus status, Pageable pageable);
+
+    Optional<BookingTicket> findByIdAndBookerId(Long id, Long bookerId);
+
+    @Modifying
+    @Query("DELETE FROM BookingTicket t WHERE t.processed < :processedBefore")
+    int deleteProcessedBefore(LocalDateTime processedBefore);
+}
@@ -0,0 +1,182 @@
+package ru.practicum.shareit.booking.ticket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.map.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.stream.BookingStatusEvent;
+import ru.practicum.shareit.error.exception.ConflictException;
+import ru.practicum.shareit.error.exception.NotAvailableException;
+import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Durable queue of booking requests accepted without creating the booking right away.
+ * A ticket is a single insert whose foreign keys check the item and the booker; workers then turn pending
+ * tickets into bookings in batches, loading all items and bookers of a batch with two queries.
+ * A batch that fails as a whole is retried ticket by ticket; a ticket that keeps failing for an unexpected reason
+ * is marked {@code FAILED} after {@value #MAX_ATTEMPTS} attempts, so it cannot block the queue.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BookingTicketService {
+    static final int MAX_ATTEMPTS = 3;
+    static final String UNEXPECTED_ERROR = "Booking could not be created";
+
+    private final BookingTicketRepository ticketRepository;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemAvailabilityIndex availabilityIndex;
+    private final BookingMapper bookingMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookingTicketDto enqueue(Long userId, BookingRequest request) {
+        if (request.getItemId() == null || request.getStart() == null || request.getEnd() == null
+                || !request.getStart().isBefore(request.getEnd())) {
+            throw new IllegalArgumentException("Booking needs an item and a start before its end");
+        }
+        BookingTicket ticket = new BookingTicket();
+        ticket.setBookerId(userId);
+        ticket.setItemId(request.getItemId());
+        ticket.setStart(request.getStart());
+        ticket.setEnd(request.getEnd());
+        ticket.setStatus(TicketStatus.PENDING);
+        ticket.setCreated(LocalDateTime.now());
+        try {
+            return toDto(ticketRepository.saveAndFlush(ticket));
+        } catch (DataIntegrityViolationException e) {
+            throw new NotFoundException(String.format("Item %d or booker %d not found", request.getItemId(), userId));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public BookingTicketDto getTicket(Long userId, Long ticketId) {
+        return ticketRepository.findByIdAndBookerId(ticketId, userId)
+                .map(this::toDto)
+                .orElseThrow(() -> new NotFoundException(String.format("Booking ticket %d not found", ticketId)));
+    }
+
+    /**
+     * Turns up to {@code batchSize} pending tickets into bookings and returns how many tickets were taken.
+     */
+    public int processNextBatch(int batchSize) {
+        List<BookingTicket> tickets = ticketRepository.findForProcessing(TicketStatus.PENDING,
+                PageRequest.of(0, batchSize));
+        if (tickets.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Item> items = itemRepository.findAllById(tickets.stream().map(BookingTicket::getItemId).toList())
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, User> bookers = userRepository.findAllById(tickets.stream().map(BookingTicket::getBookerId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (BookingTicket ticket : tickets) {
+            process(ticket, items.get(ticket.getItemId()), bookers.get(ticket.getBookerId()), now);
+        }
+        return tickets.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPendingIds(int limit) {
+        return ticketRepository.findIdsByStatus(TicketStatus.PENDING, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Turns one pending ticket into a booking in its own transaction, flushing the booking so that a failing
+     * insert surfaces here. Returns {@code false} if the ticket is no longer pending or another worker holds it.
+     */
+    public boolean processTicket(Long ticketId) {
+        return ticketRepository.findForProcessing(ticketId, TicketStatus.PENDING)
+                .map(ticket -> {
+                    process(ticket, itemRepository.findById(ticket.getItemId()).orElse(null),
+                            userRepository.findById(ticket.getBookerId()).orElse(null), LocalDateTime.now());
+                    bookingRepository.flush();
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Counts a failed attempt at a ticket whose transaction was rolled back for an unexpected reason.
+     */
+    public void recordFailedAttempt(Long ticketId) {
+        ticketRepository.findForProcessing(ticketId, TicketStatus.PENDING).ifPresent(ticket -> {
+            ticket.setAttempts(ticket.getAttempts() + 1);
+            if (ticket.getAttempts() >= MAX_ATTEMPTS) {
+                ticket.setStatus(TicketStatus.FAILED);
+                ticket.setError(UNEXPECTED_ERROR);
+                ticket.setProcessed(LocalDateTime.now());
+            }
+        });
+    }
+
+    public int purgeProcessedBefore(LocalDateTime processedBefore) {
+        return ticketRepository.deleteProcessedBefore(processedBefore);
+    }
+
+    private void process(BookingTicket ticket, Item item, User booker, LocalDateTime now) {
+        try {
+            Booking booking = book(ticket, item, booker);
+            ticket.setStatus(TicketStatus.DONE);
+            ticket.setBookingId(booking.getId());
+            eventPublisher.publishEvent(BookingStatusEvent.of(booking));
+        } catch (NotFoundException | NotAvailableException | ConflictException e) {
+            ticket.setStatus(TicketStatus.FAILED);
+            ticket.setError(e.getMessage());
+        }
+        ticket.setProcessed(now);
+    }
+
+    private Booking book(BookingTicket ticket, Item item, User booker) {
+        // билет проверен внешними ключами при вставке, но вещь или пользователь могли быть удалены позже
+        if (item == null || booker == null) {
+            throw new NotFoundException("Item or booker no longer exists");
+        }
+        if (Boolean.FALSE.equals(item.getAvailable())) {
+            throw new NotAvailableException(String.format("Item %s is not available", item.getId()));
+        }
+        Booking booking = new Booking();
+        booking.setStart(ticket.getStart());
+        booking.setEnd(ticket.getEnd());
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStatus(Status.WAITING);
+        return availabilityIndex.reserve(booking, () -> bookingRepository.save(booking));
+    }
+
+    private BookingTicketDto toDto(BookingTicket ticket) {
+        BookingTicketDto dto = new BookingTicketDto();
+        dto.setId(ticket.getId());
+        dto.setStatus(ticket.getStatus());
+        dto.setCreated(ticket.getCreated());
+        dto.setError(ticket.getError());
+        if (ticket.getBookingId() != null) {
+            bookingRepository.findById(ticket.getBookingId())
+                    .map(bookingMapper::toDto)
+                    .ifPresent(dto::setBooking);
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.booking.ticket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the booking ticket queue one batch per transaction until it is empty; a batch that fails is retried
+ * one ticket per transaction.
+ * A pool of {@code shareit.booking-tickets.workers} threads of its own polls the queue, so a burst of tickets
+ * never holds the shared scheduler thread. Workers claim disjoint batches with {@code SKIP LOCKED} and reserve
+ * items through the per-item locks of the availability index, which covers this server instance only.
+ */
+@Slf4j
+@Component
+public class BookingTicketWorker {
+    private final BookingTicketService ticketService;
+    private final int batchSize;
+    private final int workers;
+    private final long pollDelayMillis;
+    private final Duration retention;
+    private final ScheduledExecutorService drainers;
+
+    public BookingTicketWorker(BookingTicketService ticketService,
+                               @Value("${shareit.booking-tickets.batch-size:100}") int batchSize,
+                               @Value("${shareit.booking-tickets.workers:2}") int workers,
+                               @Value("${shareit.booking-tickets.poll-delay:500}") long pollDelayMillis,
+                               @Value("${shareit.booking-tickets.retention:86400000}") long retentionMillis) {
+        if (workers < 1) {
+            throw new IllegalArgumentException(String.format("Invalid booking ticket worker count %d", workers));
+        }
+        this.ticketService = ticketService;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.pollDelayMillis = pollDelayMillis;
+        this.retention = Duration.ofMillis(retentionMillis);
+        this.drainers = Executors.newScheduledThreadPool(workers,
+                Thread.ofPlatform().name("booking-ticket-worker-", 1).daemon().factory());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (int i = 0; i < workers; i++) {
+            drainers.scheduleWithFixedDelay(this::poll, pollDelayMillis, pollDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void drain() {
+        int taken;
+        do {
+            try {
+                taken = ticketService.processNextBatch(batchSize);
+            } catch (RuntimeException e) {
+                log.warn("Booking ticket batch failed, retrying its tickets one by one", e);
+                processOneByOne();
+                // следующая пачка ждёт очередного опроса, чтобы сбой базы не израсходовал попытки за секунды
+                return;
+            }
+        } while (taken == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking-tickets.purge-delay:3600000}")
+    public void purge() {
+        int purged = ticketService.purgeProcessedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} processed booking tickets", purged);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        drainers.shutdownNow();
+    }
+
+    private void processOneByOne() {
+        for (Long ticketId : ticketService.findPendingIds(batchSize)) {
+            try {
+                ticketService.processTicket(ticketId);
+            } catch (RuntimeException e) {
+                log.warn("Booking ticket {} failed", ticketId, e);
+                ticketService.recordFailedAttempt(ticketId);
+            }
+        }
+    }
+
+    private void poll() {
+        // задача, бросившая исключение, больше не перезапускается ScheduledExecutorService
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Booking ticket worker failed", e);
+        }
+    }
+}
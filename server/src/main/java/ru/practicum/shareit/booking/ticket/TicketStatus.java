@@ -0,0 +1,7 @@
+package ru.practicum.shareit.booking.ticket;
+
+public enum TicketStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
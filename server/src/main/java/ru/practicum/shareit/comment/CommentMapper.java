@@ -2,4 +2,6 @@ package ru.practicum.shareit.comment;
 
 public interface CommentMapper {
     CommentDto toDto(Comment comment);
-}
\ No newline at end of file
+
+    CommentDto toDto(CommentView comment);
+}
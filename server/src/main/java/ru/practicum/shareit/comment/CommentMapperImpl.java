@@ -11,4 +11,14 @@ public class CommentMapperImpl implements CommentMapper {
         dto.setCreated(comment.getCreated());
         return dto;
     }
+
+    @Override
+    public CommentDto toDto(CommentView comment) {
+        CommentDto dto = new CommentDto();
+        dto.setId(comment.getId());
+        dto.setText(comment.getText());
+        dto.setAuthorName(comment.getAuthorName());
+        dto.setCreated(comment.getCreated());
+        return dto;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,27 @@
 package ru.practicum.shareit.comment;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-}
\ No newline at end of file
+    @Query("SELECT c.item.id AS itemId, c.id AS id, c.text AS text, a.name AS authorName, c.created AS created " +
+            "FROM Comment c JOIN c.author a WHERE c.item.id = :itemId " +
+            "AND (c.created < :cursorCreated OR (c.created = :cursorCreated AND c.id < :cursorId)) " +
+            "ORDER BY c.created DESC, c.id DESC")
+    List<CommentView> findCommentsByItemId(Long itemId, LocalDateTime cursorCreated, Long cursorId,
+                                           Pageable pageable);
+
+    // Для каждого предмета берем только последние :limit комментариев одним запросом
+    @Query(value = "SELECT c.item_id AS itemId, c.id AS id, c.text AS text, c.author_name AS authorName, " +
+            "c.created AS created FROM (" +
+            "SELECT cm.item_id, cm.id, cm.text, u.name AS author_name, cm.created, " +
+            "ROW_NUMBER() OVER (PARTITION BY cm.item_id ORDER BY cm.created DESC, cm.id DESC) AS comment_rank " +
+            "FROM comments cm JOIN users u ON u.id = cm.author_id WHERE cm.item_id IN (:itemIds)) c " +
+            "WHERE c.comment_rank <= :limit ORDER BY c.item_id, c.created DESC, c.id DESC", nativeQuery = true)
+    List<CommentView> findNewestCommentsByItemIdIn(Collection<Long> itemIds, int limit);
+}
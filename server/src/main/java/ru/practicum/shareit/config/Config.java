@@ -1,16 +1,19 @@
 package ru.practicum.shareit.config;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
-import ru.practicum.shareit.NotNullCondition;
 import ru.practicum.shareit.comment.CommentMapper;
 import ru.practicum.shareit.comment.CommentMapperImpl;
+import ru.practicum.shareit.booking.map.BookingMapper;
+import ru.practicum.shareit.booking.map.BookingMapperImpl;
 import ru.practicum.shareit.item.map.ItemMapper;
 import ru.practicum.shareit.item.map.ItemMapperImpl;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.map.ItemRequestMapper;
+import ru.practicum.shareit.request.map.ItemRequestMapperImpl;
+import ru.practicum.shareit.user.map.UserMapper;
+import ru.practicum.shareit.user.map.UserMapperImpl;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.HashMap;
@@ -30,22 +33,27 @@ public class Config {
     }
 
     @Bean
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
+    public CommentMapper commentMapper() {
+        return new CommentMapperImpl();
+    }
 
-        modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT)
-                .setPropertyCondition(new NotNullCondition());
-        return modelMapper;
+    @Bean
+    public ItemMapper itemMapper(CommentMapper commentMapper) {
+        return new ItemMapperImpl(commentMapper);
     }
 
     @Bean
-    public CommentMapper commentMapper() {
-        return new CommentMapperImpl();
+    public UserMapper userMapper() {
+        return new UserMapperImpl();
+    }
+
+    @Bean
+    public BookingMapper bookingMapper(UserMapper userMapper) {
+        return new BookingMapperImpl(userMapper);
     }
 
     @Bean
-    public ItemMapper itemMapper(ModelMapper modelMapper, CommentMapper commentMapper) {
-        return new ItemMapperImpl(modelMapper, commentMapper);
+    public ItemRequestMapper itemRequestMapper() {
+        return new ItemRequestMapperImpl();
     }
 }
\ No newline at end of file
@@ -1,15 +1,21 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.TimeSlotDto;
 import ru.practicum.shareit.comment.CommentDto;
 import ru.practicum.shareit.comment.CommentRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemRequest;
 import ru.practicum.shareit.item.dto.ItemUpdateRequest;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -49,8 +55,39 @@ public class ItemController {
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/search")
     public List<ItemDto> searchItem(@RequestHeader("X-Sharer-User-Id") long userId,
-                                    @RequestParam String text) {
-        return itemService.search(userId, text);
+                                    @RequestParam String text,
+                                    @RequestParam(defaultValue = "0") int from,
+                                    @RequestParam(defaultValue = "10") int size) {
+        return itemService.search(userId, text, from, size);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/suggest")
+    public List<String> suggest(@RequestHeader("X-Sharer-User-Id") long userId,
+                                @RequestParam String prefix,
+                                @RequestParam(defaultValue = "10") int size) {
+        return itemService.suggest(prefix, size);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{itemId}/availability")
+    public List<TimeSlotDto> getAvailability(@RequestHeader("X-Sharer-User-Id") long userId,
+                                             @PathVariable("itemId") long itemId,
+                                             @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                             @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        return itemService.getAvailability(itemId, from, to);
+    }
+
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<List<CommentDto>> getComments(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                        @PathVariable("itemId") long itemId,
+                                                        @RequestParam(defaultValue = "10") int size,
+                                                        @RequestParam(required = false) String cursor) {
+        KeysetPageRequest page = KeysetPageRequest.of(0, size, cursor);
+        List<CommentDto> comments = itemService.getComments(itemId, page);
+        return ResponseEntity.ok()
+                .headers(page.nextCursorHeaders(comments, CommentDto::getCreated, CommentDto::getId))
+                .body(comments);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -15,4 +15,5 @@ public class ItemDto {
     private BookingTimeDto lastBooking;
     private BookingTimeDto nextBooking;
     private List<CommentDto> comments;
+    private String commentsCursor;
 }
\ No newline at end of file
@@ -6,4 +6,6 @@ public interface ItemResponseDto {
     String getName();
 
     Long getOwnerId();
+
+    Long getRequestId();
 }
\ No newline at end of file
@@ -1,8 +1,16 @@
 package ru.practicum.shareit.item.map;
 
+import ru.practicum.shareit.comment.CommentView;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemRequest;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.List;
+
 public interface ItemMapper {
     ItemDto toDto(Item item);
+
+    ItemDto toDto(Item item, List<CommentView> comments);
+
+    Item toItem(ItemRequest itemRequest);
 }
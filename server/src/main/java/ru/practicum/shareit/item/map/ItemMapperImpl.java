@@ -1,37 +1,43 @@
 package ru.practicum.shareit.item.map;
 
-
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import ru.practicum.shareit.comment.Comment;
-import ru.practicum.shareit.comment.CommentDto;
 import ru.practicum.shareit.comment.CommentMapper;
+import ru.practicum.shareit.comment.CommentView;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemRequest;
 import ru.practicum.shareit.item.model.Item;
 
-import java.util.Collections;
 import java.util.List;
 
 @RequiredArgsConstructor
 public class ItemMapperImpl implements ItemMapper {
-    private final ModelMapper modelMapper;
     private final CommentMapper commentMapper;
 
     @Override
     public ItemDto toDto(Item item) {
+        return toDto(item, List.of());
+    }
+
+    @Override
+    public ItemDto toDto(Item item, List<CommentView> comments) {
         ItemDto itemDto = new ItemDto();
-        modelMapper.map(item, itemDto);
-        itemDto.setComments(mapComments(item.getComments()));
+        itemDto.setId(item.getId());
+        itemDto.setName(item.getName());
+        itemDto.setDescription(item.getDescription());
+        itemDto.setAvailable(item.getAvailable());
+        itemDto.setComments(comments.stream().map(commentMapper::toDto).toList());
 
         return itemDto;
     }
 
-    private List<CommentDto> mapComments(List<Comment> comments) {
-        if (comments == null) {
-            return Collections.emptyList();
-        }
-
-        return comments.stream()
-                .map(commentMapper::toDto).toList();
+    @Override
+    public Item toItem(ItemRequest itemRequest) {
+        Item item = new Item();
+        item.setName(itemRequest.getName());
+        item.setDescription(itemRequest.getDescription());
+        item.setAvailable(itemRequest.getAvailable());
+        item.setRequestId(itemRequest.getRequestId());
+
+        return item;
     }
 }
\ No newline at end of file
@@ -2,23 +2,21 @@ package ru.practicum.shareit.item.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
-import ru.practicum.shareit.comment.Comment;
-
-import java.util.List;
+import ru.practicum.shareit.item.search.ItemSearchListener;
 
 @Data
 @Entity
 @Table(name = "items")
+@EntityListeners(ItemSearchListener.class)
 public class Item {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String description;
     private Boolean available;
     @Column(name = "owner_id", nullable = false)
     private Long ownerId;
-    @OneToMany(mappedBy = "item")
-    private List<Comment> comments;
     private Long requestId;
 }
\ No newline at end of file
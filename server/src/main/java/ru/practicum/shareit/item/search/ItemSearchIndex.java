@@ -0,0 +1,289 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Case-folded trigram index over the name and description of available items.
+ * Trigrams only narrow down the candidates; every candidate is then checked with a plain substring match,
+ * so the matches are the same as {@code LOWER(name) LIKE '%text%' OR LOWER(description) LIKE '%text%'}.
+ * Matches are ranked by how often the text occurs, with name hits weighing more than description hits and
+ * whole-word hits more than hits inside a word; only the top {@code from + size} are kept while scanning.
+ * Ranked pages are cached in {@link SearchResultCache} and dropped from it as soon as a matching item changes.
+ * Names are also kept in a sorted skip list for lock-free prefix suggestions. Suggestions come in case-folded
+ * lexicographic order, so a name precedes the longer names it starts ("Drill" before "Drill bits" before "drone"),
+ * and names that differ only in case are suggested once.
+ * Changes made inside a transaction are undone if that transaction rolls back.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+    static final int GRAM_LENGTH = 3;
+    static final int NAME_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+    static final int WORD_BONUS = 2;
+    private static final char NAME_KEY_SEPARATOR = '\u0000';
+
+    private final ItemRepository itemRepository;
+    private final SearchResultCache resultCache;
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final NavigableMap<String, String> names = new ConcurrentSkipListMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // снимок читается под блокировкой записи, иначе put, успевший между чтением и заменой, был бы затёрт
+        write(() -> {
+            List<Item> items = itemRepository.findAllByAvailableTrue();
+            documents.clear();
+            postings.clear();
+            names.clear();
+            resultCache.clear();
+            items.forEach(item -> replace(item.getId(), Document.of(item)));
+            return null;
+        });
+    }
+
+    public List<Long> search(String text, int from, int size) {
+        if (from < 0 || size < 1) {
+            throw new IllegalArgumentException(String.format("Invalid page from=%d, size=%d", from, size));
+        }
+        String query = text.toLowerCase(Locale.ROOT);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        // кэш заполняется под той же блокировкой, что и чтение индекса, иначе запись могла бы вклиниться
+        // между поиском и сохранением результата и оставить в кэше устаревшую страницу
+        lock.readLock().lock();
+        try {
+            List<Long> itemIds = resultCache.get(query, from, size);
+            if (itemIds == null) {
+                itemIds = rank(query, from, size);
+                resultCache.put(query, from, size, itemIds);
+            }
+            return itemIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> suggest(String prefix, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(String.format("Invalid suggestion count %d", size));
+        }
+        String key = prefix.toLowerCase(Locale.ROOT);
+        List<String> suggestions = new ArrayList<>();
+        String from = key;
+        while (suggestions.size() < size) {
+            Map.Entry<String, String> entry = names.ceilingEntry(from);
+            if (entry == null || !entry.getKey().startsWith(key)) {
+                break;
+            }
+            suggestions.add(entry.getValue());
+            // у вещей с одинаковым именем ключи идут подряд: перескакиваем весь этот отрезок сразу
+            String name = entry.getKey().substring(0, entry.getKey().lastIndexOf(NAME_KEY_SEPARATOR));
+            from = name + (char) (NAME_KEY_SEPARATOR + 1);
+        }
+        return suggestions;
+    }
+
+    public void put(Item item) {
+        Document document = Boolean.TRUE.equals(item.getAvailable()) ? Document.of(item) : null;
+        Document previous = write(() -> replace(item.getId(), document));
+        onRollback(item.getId(), previous);
+    }
+
+    public void remove(Long itemId) {
+        Document previous = write(() -> replace(itemId, null));
+        onRollback(itemId, previous);
+    }
+
+    private List<Long> rank(String query, int from, int size) {
+        int limit = (int) Math.min((long) from + size, Integer.MAX_VALUE);
+        PriorityQueue<Hit> top = new PriorityQueue<>(Hit.BEST_FIRST.reversed());
+        forEachCandidate(query, id -> {
+            int score = documents.get(id).score(query);
+            if (score > 0) {
+                offer(top, new Hit(id, score), limit);
+            }
+        });
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(Hit.BEST_FIRST);
+        return hits.stream()
+                .skip(from)
+                .map(Hit::itemId)
+                .toList();
+    }
+
+    private void forEachCandidate(String query, Consumer<Long> action) {
+        if (query.length() < GRAM_LENGTH) {
+            documents.keySet().forEach(action);
+            return;
+        }
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return;
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        List<Set<Long>> others = lists.subList(1, lists.size());
+        for (Long id : lists.getFirst()) {
+            if (others.stream().allMatch(ids -> ids.contains(id))) {
+                action.accept(id);
+            }
+        }
+    }
+
+    private static void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (Hit.BEST_FIRST.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private Document replace(Long itemId, Document document) {
+        Document previous = documents.remove(itemId);
+        if (previous != null) {
+            names.remove(previous.name() + NAME_KEY_SEPARATOR + itemId);
+            for (String gram : previous.grams()) {
+                Set<Long> ids = postings.get(gram);
+                ids.remove(itemId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        if (document != null) {
+            documents.put(itemId, document);
+            names.put(document.name() + NAME_KEY_SEPARATOR + itemId, document.title());
+            for (String gram : document.grams()) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(itemId);
+            }
+        }
+        if (previous != null || document != null) {
+            resultCache.invalidate(query -> previous != null && previous.matches(query)
+                    || document != null && document.matches(query));
+        }
+        return previous;
+    }
+
+    private <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remembers the state {@code itemId} had before the current transaction first changed it.
+     * Later changes in the same transaction keep that first state, so a rollback never restores an intermediate one.
+     */
+    private void onRollback(Long itemId, Document previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Undo undo = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(Undo.class::isInstance)
+                .map(Undo.class::cast)
+                .filter(registered -> registered.index() == this)
+                .findFirst()
+                .orElseGet(() -> {
+                    Undo registered = new Undo();
+                    TransactionSynchronizationManager.registerSynchronization(registered);
+                    return registered;
+                });
+        if (!undo.previous.containsKey(itemId)) {
+            undo.previous.put(itemId, previous);
+        }
+    }
+
+    private class Undo implements TransactionSynchronization {
+        private final Map<Long, Document> previous = new HashMap<>();
+
+        ItemSearchIndex index() {
+            return ItemSearchIndex.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_ROLLED_BACK) {
+                write(() -> {
+                    previous.forEach(ItemSearchIndex.this::replace);
+                    return null;
+                });
+            }
+        }
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private record Document(String title, String name, String description) {
+        static Document of(Item item) {
+            String title = item.getName() == null ? "" : item.getName();
+            return new Document(title, fold(title), fold(item.getDescription()));
+        }
+
+        boolean matches(String query) {
+            return name.contains(query) || description.contains(query);
+        }
+
+        int score(String query) {
+            return NAME_WEIGHT * occurrences(name, query) + DESCRIPTION_WEIGHT * occurrences(description, query);
+        }
+
+        Set<String> grams() {
+            Set<String> grams = ItemSearchIndex.grams(name);
+            grams.addAll(ItemSearchIndex.grams(description));
+            return grams;
+        }
+
+        private static String fold(String text) {
+            return text == null ? "" : text.toLowerCase(Locale.ROOT);
+        }
+
+        private static int occurrences(String text, String query) {
+            int score = 0;
+            for (int i = text.indexOf(query); i >= 0; i = text.indexOf(query, i + 1)) {
+                score += isWord(text, i, i + query.length()) ? 1 + WORD_BONUS : 1;
+            }
+            return score;
+        }
+
+        private static boolean isWord(String text, int start, int end) {
+            return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                    && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+        }
+    }
+
+    private record Hit(Long itemId, int score) {
+        static final Comparator<Hit> BEST_FIRST = Comparator.comparingInt(Hit::score).reversed()
+                .thenComparing(Hit::itemId);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.item.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+
+/**
+ * Keeps {@link ItemSearchIndex} in step with every item written through JPA, whichever service does the write.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemSearchListener {
+    private final ObjectProvider<ItemSearchIndex> searchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Item item) {
+        searchIndex.ifAvailable(index -> index.put(item));
+    }
+
+    @PostRemove
+    public void onRemove(Item item) {
+        searchIndex.ifAvailable(index -> index.remove(item.getId()));
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * LRU cache of ranked search pages, bounded by the total number of item ids it holds.
+ * Entries have no TTL: they leave the cache when evicted or when {@link ItemSearchIndex} reports
+ * a change to an item that matched, or now matches, the cached query.
+ */
+@Component
+public class SearchResultCache {
+    private final long maxWeight;
+    private final Map<Key, List<Long>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter invalidations;
+
+    public SearchResultCache(MeterRegistry registry,
+                             @Value("${shareit.search-cache.max-weight:100000}") long maxWeight) {
+        this.maxWeight = maxWeight;
+        hits = Counter.builder("shareit.search.cache.gets").tag("result", "hit").register(registry);
+        misses = Counter.builder("shareit.search.cache.gets").tag("result", "miss").register(registry);
+        evictions = Counter.builder("shareit.search.cache.evictions").register(registry);
+        invalidations = Counter.builder("shareit.search.cache.invalidations").register(registry);
+        Gauge.builder("shareit.search.cache.size", this, SearchResultCache::size).register(registry);
+        Gauge.builder("shareit.search.cache.weight", this, SearchResultCache::weight).register(registry);
+    }
+
+    public synchronized List<Long> get(String query, int from, int size) {
+        List<Long> itemIds = entries.get(new Key(query, from, size));
+        (itemIds == null ? misses : hits).increment();
+        return itemIds;
+    }
+
+    public synchronized void put(String query, int from, int size, List<Long> itemIds) {
+        long entryWeight = weigh(itemIds);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        List<Long> previous = entries.put(new Key(query, from, size), itemIds);
+        weight += entryWeight - (previous == null ? 0 : weigh(previous));
+        Iterator<List<Long>> eldest = entries.values().iterator();
+        while (weight > maxWeight) {
+            weight -= weigh(eldest.next());
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public synchronized void invalidate(Predicate<String> affected) {
+        Iterator<Map.Entry<Key, List<Long>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, List<Long>> entry = iterator.next();
+            if (affected.test(entry.getKey().query())) {
+                weight -= weigh(entry.getValue());
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    private static long weigh(List<Long> itemIds) {
+        return itemIds.size() + 1L;
+    }
+
+    private record Key(String query, int from, int size) {
+    }
+}
@@ -1,26 +1,39 @@
 package ru.practicum.shareit.item.service;
 
+import ru.practicum.shareit.booking.dto.TimeSlotDto;
 import ru.practicum.shareit.comment.CommentDto;
 import ru.practicum.shareit.comment.CommentRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemRequest;
 import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.dto.ItemUpdateRequest;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ItemService {
     ItemDto save(Long ownerId, ItemRequest itemRequest);
 
     ItemDto update(Long ownerId, Long itemId, ItemUpdateRequest item);
 
-    List<ItemDto> search(Long ownerId, String text);
+    List<ItemDto> search(Long ownerId, String text, int from, int size);
+
+    List<String> suggest(String prefix, int size);
 
     ItemDto get(Long ownerId, Long itemId);
 
     List<ItemDto> getAllItemsFromOwner(Long ownerId);
 
+    List<TimeSlotDto> getAvailability(Long itemId, LocalDateTime from, LocalDateTime to);
+
+    List<CommentDto> getComments(Long itemId, KeysetPageRequest page);
+
     CommentDto saveComment(Long bookerId, Long itemId, CommentRequest commentRequest);
 
     List<ItemResponseDto> getItemsByRequestId(Long requestId);
+
+    Map<Long, List<ItemResponseDto>> getItemsByRequestIds(Collection<Long> requestIds);
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
 import ru.practicum.shareit.booking.dto.BookingTimeDto;
+import ru.practicum.shareit.booking.dto.TimeSlotDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.comment.*;
 import ru.practicum.shareit.error.exception.NotAvailableException;
@@ -19,29 +21,47 @@ import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.dto.ItemUpdateRequest;
 import ru.practicum.shareit.item.map.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.summary.ItemBookingSummary;
+import ru.practicum.shareit.item.summary.ItemBookingSummaryService;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
+import ru.practicum.shareit.request.match.RequestMatchService;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
+    static final int COMMENTS_SLICE = 10;
+
     private final ItemRepository itemRepository;
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
-    private final ModelMapper modelMapper;
+    private final ItemAvailabilityIndex availabilityIndex;
+    private final ItemBookingSummaryService summaryService;
+    private final ItemSearchIndex searchIndex;
+    private final RequestMatchService requestMatchService;
     private final ItemMapper itemMapper;
     private final CommentMapper commentMapper;
 
     @Override
     public ItemDto save(Long ownerId, ItemRequest itemRequest) {
         try {
-            Item item = modelMapper.map(itemRequest, Item.class);
+            Item item = itemMapper.toItem(itemRequest);
             item.setOwnerId(ownerId);
-            return itemMapper.toDto(itemRepository.save(item));
+            Item saved = itemRepository.saveAndFlush(item);
+            summaryService.onItemAdded(saved);
+            requestMatchService.onItemAdded(saved);
+            return itemMapper.toDto(saved);
         } catch (DataIntegrityViolationException e) {
             throw new NotFoundException("User with id " + ownerId + " does not exist.");
         }
@@ -52,7 +72,7 @@ public class ItemServiceImpl implements ItemService {
         return itemRepository.findById(itemId)
                 .map(item -> {
                     checkOwner(item, ownerId);
-                    return itemMapper.toDto(itemRepository.save(updateItemFields(item, itemUpdateRequest)));
+                    return toDtos(List.of(itemRepository.save(updateItemFields(item, itemUpdateRequest)))).getFirst();
                 })
                 .orElseThrow(() -> new NotFoundException("Item with id " + itemId + " not found"));
     }
@@ -78,61 +98,131 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ItemDto> search(Long ownerId, String text) {
+    public List<ItemDto> search(Long ownerId, String text, int from, int size) {
         if (text == null || text.isEmpty()) {
             return new ArrayList<>();
         }
-        return itemRepository.searchItemsByText(text).stream()
-                .map(itemMapper::toDto)
-                .toList();
+        List<Long> itemIds = searchIndex.search(text, from, size);
+        if (itemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Item> items = itemRepository.findAllByIdInAndAvailableTrue(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return toDtos(itemIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return new ArrayList<>();
+        }
+        return searchIndex.suggest(prefix, size);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ItemDto get(Long ownerId, Long itemId) {
-        Item item = itemRepository.findItemByIdWithComments(itemId)
+        Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException(String.format("Item with id %d and ownerId %d does not exist.", itemId, ownerId)));
 
-        ItemDto itemDto = itemMapper.toDto(item);
-        setLastAndNextBooking(itemDto);
+        ItemDto itemDto = toDtos(List.of(item)).getFirst();
+        setLastAndNextBookings(List.of(itemDto));
         return itemDto;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemDto> getAllItemsFromOwner(Long ownerId) {
-        List<Item> items = itemRepository.findItemsByOwnerIdWithComments(ownerId);
+        List<ItemDto> itemDtos = toDtos(itemRepository.findItemsByOwnerId(ownerId));
+        setLastAndNextBookings(itemDtos);
+        return itemDtos;
+    }
 
-        return items.stream()
-                .map(item -> {
-                    ItemDto itemDto = itemMapper.toDto(item);
-                    setLastAndNextBooking(itemDto);
-                    return itemDto;
-                })
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeSlotDto> getAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException(String.format("Period start %s must be before its end %s", from, to));
+        }
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("Item with id " + itemId + " not found");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!to.isAfter(now)) {
+            return List.of();
+        }
+        return availabilityIndex.freeSlots(itemId, from.isBefore(now) ? now : from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentDto> getComments(Long itemId, KeysetPageRequest page) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("Item with id " + itemId + " not found");
+        }
+        return commentRepository.findCommentsByItemId(itemId, page.cursorTime(), page.cursorId(), page.pageable())
+                .stream()
+                .map(commentMapper::toDto)
                 .toList();
     }
 
-    private void setLastAndNextBooking(ItemDto itemDto) {
-        List<Booking> bookings = bookingRepository.getBookingsByItemId(itemDto.getId());
+    private List<ItemDto> toDtos(List<Item> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        // Последние комментарии всех предметов вместе с именами авторов - одним запросом
+        Map<Long, List<CommentView>> comments = commentRepository.findNewestCommentsByItemIdIn(
+                        items.stream().map(Item::getId).toList(), COMMENTS_SLICE).stream()
+                .collect(Collectors.groupingBy(CommentView::getItemId));
+
+        return items.stream()
+                .map(item -> toDto(item, comments.getOrDefault(item.getId(), List.of())))
+                .toList();
+    }
 
-        if (bookings.size() > 1) {
-            BookingTimeDto lastBooking = bookings.stream()
-                    .filter(booking -> booking.getEnd().isBefore(LocalDateTime.now()))
-                    .max(Comparator.comparing(Booking::getEnd))
-                    .map(booking -> modelMapper.map(booking, BookingTimeDto.class))
-                    .orElseGet(null);
+    private ItemDto toDto(Item item, List<CommentView> comments) {
+        ItemDto itemDto = itemMapper.toDto(item, comments);
+        // Полный срез - продолжение доступно через GET /items/{id}/comments?cursor=
+        if (comments.size() == COMMENTS_SLICE) {
+            CommentView last = comments.getLast();
+            itemDto.setCommentsCursor(new Cursor(last.getCreated(), last.getId()).toString());
+        }
+        return itemDto;
+    }
 
-            BookingTimeDto nextBooking = bookings.stream()
-                    .filter(booking -> booking.getStart().isAfter(LocalDateTime.now()))
-                    .sorted(Comparator.comparing(Booking::getStart))
-                    .map(booking -> modelMapper.map(booking, BookingTimeDto.class))
-                    .findFirst().orElseGet(null);
+    private void setLastAndNextBookings(List<ItemDto> itemDtos) {
+        if (itemDtos.isEmpty()) {
+            return;
+        }
+        Map<Long, ItemBookingSummary> summaries = summaryService.getSummaries(
+                itemDtos.stream().map(ItemDto::getId).toList());
 
-            itemDto.setLastBooking(lastBooking);
-            itemDto.setNextBooking(nextBooking);
+        for (ItemDto itemDto : itemDtos) {
+            ItemBookingSummary summary = summaries.get(itemDto.getId());
+            if (summary == null) {
+                continue;
+            }
+            if (summary.getLastBookingId() != null) {
+                itemDto.setLastBooking(toBookingTimeDto(summary.getLastStart(), summary.getLastEnd()));
+            }
+            if (summary.getNextBookingId() != null) {
+                itemDto.setNextBooking(toBookingTimeDto(summary.getNextStart(), summary.getNextEnd()));
+            }
         }
     }
 
+    private BookingTimeDto toBookingTimeDto(LocalDateTime start, LocalDateTime end) {
+        BookingTimeDto bookingTimeDto = new BookingTimeDto();
+        bookingTimeDto.setStart(start);
+        bookingTimeDto.setEnd(end);
+        return bookingTimeDto;
+    }
+
     @Override
     public CommentDto saveComment(Long bookerId, Long itemId, CommentRequest commentRequest) {
         Comment comment = new Comment();
@@ -154,4 +244,14 @@ public class ItemServiceImpl implements ItemService {
     public List<ItemResponseDto> getItemsByRequestId(Long requestId) {
         return itemRepository.findItemsByRequestId(requestId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<ItemResponseDto>> getItemsByRequestIds(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Map.of();
+        }
+        return itemRepository.findItemsByRequestIdIn(requestIds).stream()
+                .collect(Collectors.groupingBy(ItemResponseDto::getRequestId));
+    }
 }
\ No newline at end of file
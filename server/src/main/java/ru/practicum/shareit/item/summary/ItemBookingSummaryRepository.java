@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.summary;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemBookingSummaryRepository extends JpaRepository<ItemBookingSummary, Long>,
+        ItemBookingSummaryRowRepository {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ItemBookingSummary s WHERE s.itemId = :itemId")
+    Optional<ItemBookingSummary> findByIdForUpdate(Long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ItemBookingSummary s WHERE s.itemId IN :itemIds")
+    List<ItemBookingSummary> findAllByIdForUpdate(Collection<Long> itemIds);
+
+    @Query("SELECT s.itemId FROM ItemBookingSummary s WHERE s.staleAt <= :time ORDER BY s.staleAt")
+    List<Long> findStaleItemIds(LocalDateTime time, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.item.summary;
+
+import java.util.Collection;
+
+public interface ItemBookingSummaryRowRepository {
+    /**
+     * Creates an empty summary row for every existing item in {@code itemIds} that has none.
+     * Safe to run concurrently: a row inserted by another transaction in the meantime is left alone.
+     */
+    int insertMissing(Collection<Long> itemIds);
+}
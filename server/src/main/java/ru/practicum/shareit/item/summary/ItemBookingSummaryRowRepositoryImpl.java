@@ -0,0 +1,34 @@
+package ru.practicum.shareit.item.summary;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Collection;
+
+@RequiredArgsConstructor
+class ItemBookingSummaryRowRepositoryImpl implements ItemBookingSummaryRowRepository {
+    // в PostgreSQL MERGE не защищает от параллельной вставки той же строки, ON CONFLICT защищает
+    private static final String POSTGRESQL_INSERT_MISSING = "INSERT INTO item_booking_summary (item_id) " +
+            "SELECT id FROM items WHERE id IN (:itemIds) ON CONFLICT (item_id) DO NOTHING";
+    // H2 (только тесты) не знает ON CONFLICT с указанием столбца
+    private static final String H2_INSERT_MISSING = "MERGE INTO item_booking_summary s " +
+            "USING (SELECT id FROM items WHERE id IN (:itemIds)) i " +
+            "ON s.item_id = i.id WHEN NOT MATCHED THEN INSERT (item_id) VALUES (i.id)";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int insertMissing(Collection<Long> itemIds) {
+        entityManager.flush();
+        return entityManager.createNativeQuery(isPostgreSql() ? POSTGRESQL_INSERT_MISSING : H2_INSERT_MISSING)
+                .setParameter("itemIds", itemIds)
+                .executeUpdate();
+    }
+
+    private boolean isPostgreSql() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,153 @@
+package ru.practicum.shareit.item.summary;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.ItemBookingTime;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the last ended and the next starting approved booking of every item.
+ * A summary stays valid until its {@code staleAt}: the start of the next booking or the end of the current one.
+ * Rows are created with their item and written only by booking status changes and the roll-forward.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ItemBookingSummaryService {
+    private static final int ROLL_FORWARD_BATCH_SIZE = 500;
+
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final BookingRepository bookingRepository;
+
+    /**
+     * Read path: never locks or writes. A missing or stale summary is computed in memory for this response
+     * and left for {@link #rollForward()} to persist.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ItemBookingSummary> getSummaries(Collection<Long> itemIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ItemBookingSummary> summaries = new HashMap<>();
+        Map<Long, ItemBookingSummary> outdated = new HashMap<>();
+        itemIds.forEach(itemId -> outdated.put(itemId, new ItemBookingSummary(itemId)));
+
+        for (ItemBookingSummary summary : summaryRepository.findAllById(itemIds)) {
+            if (summary.isFreshAt(now)) {
+                summaries.put(summary.getItemId(), summary);
+                outdated.remove(summary.getItemId());
+            }
+        }
+        if (!outdated.isEmpty()) {
+            compute(outdated, now);
+            summaries.putAll(outdated);
+        }
+        return summaries;
+    }
+
+    public void onItemAdded(Item item) {
+        summaryRepository.save(new ItemBookingSummary(item.getId()));
+    }
+
+    public void onStatusChanged(Booking booking, Status previousStatus) {
+        Long itemId = booking.getItem().getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (booking.getStatus() == Status.APPROVED && previousStatus != Status.APPROVED) {
+            Optional<ItemBookingSummary> summary = summaryRepository.findByIdForUpdate(itemId);
+            if (summary.isPresent()) {
+                include(summary.get(), booking, now);
+            } else {
+                recompute(List.of(itemId), now);
+            }
+        } else if (previousStatus == Status.APPROVED && booking.getStatus() != Status.APPROVED) {
+            recompute(List.of(itemId), now);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking-summary.roll-forward-delay:60000}")
+    public void rollForward() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> staleItemIds = summaryRepository.findStaleItemIds(now, PageRequest.of(0, ROLL_FORWARD_BATCH_SIZE));
+        if (!staleItemIds.isEmpty()) {
+            recompute(staleItemIds, now);
+        }
+    }
+
+    private List<ItemBookingSummary> recompute(Collection<Long> itemIds, LocalDateTime now) {
+        // строка создаётся вместе с вещью; недостающие досоздаются вставкой, терпящей параллельную вставку той же строки
+        summaryRepository.insertMissing(itemIds);
+        Map<Long, ItemBookingSummary> summaries = new HashMap<>();
+        summaryRepository.findAllByIdForUpdate(itemIds)
+                .forEach(summary -> summaries.put(summary.getItemId(), summary));
+        compute(summaries, now);
+        return summaryRepository.saveAll(summaries.values());
+    }
+
+    private void compute(Map<Long, ItemBookingSummary> summaries, LocalDateTime now) {
+        for (ItemBookingSummary summary : summaries.values()) {
+            setLast(summary, null, null, null);
+            setNext(summary, null, null, null);
+            summary.setStaleAt(null);
+        }
+
+        List<Long> itemIds = List.copyOf(summaries.keySet());
+        for (ItemBookingTime time : bookingRepository.findLastAndNextBookingTimes(itemIds, Status.APPROVED, now)) {
+            ItemBookingSummary summary = summaries.get(time.getItemId());
+            if (time.getEnd().isBefore(now)) {
+                if (summary.getLastBookingId() == null) {
+                    setLast(summary, time.getBookingId(), time.getStart(), time.getEnd());
+                }
+            } else if (summary.getNextBookingId() == null) {
+                setNext(summary, time.getBookingId(), time.getStart(), time.getEnd());
+                summary.setStaleAt(earliest(summary.getStaleAt(), time.getStart()));
+            }
+        }
+        for (ItemBookingTime time : bookingRepository.findCurrentBookingTimes(itemIds, Status.APPROVED, now)) {
+            ItemBookingSummary summary = summaries.get(time.getItemId());
+            summary.setStaleAt(earliest(summary.getStaleAt(), time.getEnd()));
+        }
+    }
+
+    private void include(ItemBookingSummary summary, Booking booking, LocalDateTime now) {
+        if (booking.getEnd().isBefore(now)) {
+            if (summary.getLastEnd() == null || booking.getEnd().isAfter(summary.getLastEnd())) {
+                setLast(summary, booking.getId(), booking.getStart(), booking.getEnd());
+            }
+        } else if (booking.getStart().isAfter(now)) {
+            if (summary.getNextStart() == null || booking.getStart().isBefore(summary.getNextStart())) {
+                setNext(summary, booking.getId(), booking.getStart(), booking.getEnd());
+                summary.setStaleAt(earliest(summary.getStaleAt(), booking.getStart()));
+            }
+        } else {
+            summary.setStaleAt(earliest(summary.getStaleAt(), booking.getEnd()));
+        }
+    }
+
+    private void setLast(ItemBookingSummary summary, Long bookingId, LocalDateTime start, LocalDateTime end) {
+        summary.setLastBookingId(bookingId);
+        summary.setLastStart(start);
+        summary.setLastEnd(end);
+    }
+
+    private void setNext(ItemBookingSummary summary, Long bookingId, LocalDateTime start, LocalDateTime end) {
+        summary.setNextBookingId(bookingId);
+        summary.setNextStart(start);
+        summary.setNextEnd(end);
+    }
+
+    private LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+}
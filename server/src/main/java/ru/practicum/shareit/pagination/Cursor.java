@@ -0,0 +1,26 @@
+package ru.practicum.shareit.pagination;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+public record Cursor(LocalDateTime time, Long id) {
+    private static final String SEPARATOR = "_";
+
+    public static Cursor parse(String value) {
+        int separator = value.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+        try {
+            return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return time + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class KeysetPageRequest {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final LocalDateTime FIRST_PAGE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final KeysetPageRequest UNPAGED = new KeysetPageRequest(0, Integer.MAX_VALUE, null, false);
+
+    private final int from;
+    private final int size;
+    private final Cursor cursor;
+    private final boolean paged;
+
+    private KeysetPageRequest(int from, int size, Cursor cursor, boolean paged) {
+        if (from < 0 || size < 1) {
+            throw new IllegalArgumentException(String.format("Invalid page from=%d, size=%d", from, size));
+        }
+        this.from = from;
+        this.size = size;
+        this.cursor = cursor;
+        this.paged = paged;
+    }
+
+    public static KeysetPageRequest of(int from, int size, String cursor) {
+        return new KeysetPageRequest(from, size, cursor == null || cursor.isBlank() ? null : Cursor.parse(cursor), true);
+    }
+
+    public static KeysetPageRequest of(int from, int size) {
+        return new KeysetPageRequest(from, size, null, true);
+    }
+
+    /**
+     * Whole list in the same order, for endpoints that answered without paging before they got a cursor.
+     */
+    public static KeysetPageRequest unpaged() {
+        return UNPAGED;
+    }
+
+    public LocalDateTime cursorTime() {
+        return cursor == null ? FIRST_PAGE_TIME : cursor.time();
+    }
+
+    public Long cursorId() {
+        return cursor == null ? Long.MAX_VALUE : cursor.id();
+    }
+
+    public Pageable pageable() {
+        if (!paged) {
+            return Pageable.unpaged();
+        }
+        return cursor == null ? new OffsetPageRequest(from, size) : PageRequest.of(0, size);
+    }
+
+    public <T> HttpHeaders nextCursorHeaders(List<T> page, Function<T, LocalDateTime> time, Function<T, Long> id) {
+        HttpHeaders headers = new HttpHeaders();
+        if (paged && page.size() == size) {
+            T last = page.getLast();
+            headers.set(NEXT_CURSOR_HEADER, new Cursor(time.apply(last), id.apply(last)).toString());
+        }
+        return headers;
+    }
+}
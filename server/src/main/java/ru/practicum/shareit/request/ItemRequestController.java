@@ -1,10 +1,13 @@
 package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithoutResponses;
 import ru.practicum.shareit.request.dto.ItemRequestRequset;
+import ru.practicum.shareit.request.match.RequestMatchView;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.util.List;
@@ -14,6 +17,8 @@ import java.util.List;
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
 public class ItemRequestController {
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
     private final ItemRequestService itemRequestService;
 
     @PostMapping
@@ -28,8 +33,32 @@ public class ItemRequestController {
     }
 
     @GetMapping(path = "all")
-    public List<ItemRequestDtoWithoutResponses> getRequestsAll(@RequestHeader("X-Sharer-User-Id") long userId) {
-        return itemRequestService.getAllRequests(userId);
+    public ResponseEntity<List<ItemRequestDtoWithoutResponses>> getRequestsAll(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
+        // до появления постраничности эндпоинт отдавал все запросы; без параметров так и остаётся
+        KeysetPageRequest page = from == null && size == null && cursor == null
+                ? KeysetPageRequest.unpaged()
+                : KeysetPageRequest.of(from == null ? 0 : from, size == null ? DEFAULT_PAGE_SIZE : size, cursor);
+        List<ItemRequestDtoWithoutResponses> requests = itemRequestService.getAllRequests(userId, page);
+        return ResponseEntity.ok()
+                .headers(page.nextCursorHeaders(requests, ItemRequestDtoWithoutResponses::getCreated,
+                        ItemRequestDtoWithoutResponses::getId))
+                .body(requests);
+    }
+
+    @GetMapping(path = "matches")
+    public ResponseEntity<List<RequestMatchView>> getMatches(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                             @RequestParam(defaultValue = "0") int from,
+                                                             @RequestParam(defaultValue = "10") int size,
+                                                             @RequestParam(required = false) String cursor) {
+        KeysetPageRequest page = KeysetPageRequest.of(from, size, cursor);
+        List<RequestMatchView> matches = itemRequestService.getMatches(userId, page);
+        return ResponseEntity.ok()
+                .headers(page.nextCursorHeaders(matches, RequestMatchView::getCreated, RequestMatchView::getId))
+                .body(matches);
     }
 
     @GetMapping(path = "{requestId}")
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.request.map;
+
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestDtoWithoutResponses;
+import ru.practicum.shareit.request.dto.ItemRequestRequset;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+public interface ItemRequestMapper {
+    ItemRequest toItemRequest(ItemRequestRequset request);
+
+    ItemRequestDto toDto(ItemRequest itemRequest);
+
+    ItemRequestDtoWithoutResponses toDtoWithoutResponses(ItemRequest itemRequest);
+}
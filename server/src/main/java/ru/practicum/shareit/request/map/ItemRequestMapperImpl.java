@@ -0,0 +1,35 @@
+package ru.practicum.shareit.request.map;
+
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestDtoWithoutResponses;
+import ru.practicum.shareit.request.dto.ItemRequestRequset;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+public class ItemRequestMapperImpl implements ItemRequestMapper {
+
+    @Override
+    public ItemRequest toItemRequest(ItemRequestRequset request) {
+        ItemRequest itemRequest = new ItemRequest();
+        itemRequest.setDescription(request.getDescription());
+        return itemRequest;
+    }
+
+    @Override
+    public ItemRequestDto toDto(ItemRequest itemRequest) {
+        ItemRequestDto dto = new ItemRequestDto();
+        dto.setId(itemRequest.getId());
+        dto.setDescription(itemRequest.getDescription());
+        dto.setCreated(itemRequest.getCreated());
+        dto.setRequestorId(itemRequest.getRequestorId());
+        return dto;
+    }
+
+    @Override
+    public ItemRequestDtoWithoutResponses toDtoWithoutResponses(ItemRequest itemRequest) {
+        ItemRequestDtoWithoutResponses dto = new ItemRequestDtoWithoutResponses();
+        dto.setId(itemRequest.getId());
+        dto.setDescription(itemRequest.getDescription());
+        dto.setCreated(itemRequest.getCreated());
+        return dto;
+    }
+}
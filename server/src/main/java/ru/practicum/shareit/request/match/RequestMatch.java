@@ -0,0 +1,33 @@
+package ru.practicum.shareit.request.match;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "request_matches")
+public class RequestMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "request_id", nullable = false)
+    private Long requestId;
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+    private int score;
+    private LocalDateTime created;
+
+    public RequestMatch(Long requestId, Long itemId, Long ownerId, int score, LocalDateTime created) {
+        this.requestId = requestId;
+        this.itemId = itemId;
+        this.ownerId = ownerId;
+        this.score = score;
+        this.created = created;
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.request.match;
+
+import java.time.LocalDateTime;
+
+public record RequestMatchEvent(Long requestId, Long itemId, Long ownerId, int score, LocalDateTime created) {
+    public static RequestMatchEvent of(RequestMatch match) {
+        return new RequestMatchEvent(match.getRequestId(), match.getItemId(), match.getOwnerId(), match.getScore(),
+                match.getCreated());
+    }
+}
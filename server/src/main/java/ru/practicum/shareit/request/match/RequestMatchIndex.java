@@ -0,0 +1,180 @@
+package ru.practicum.shareit.request.match;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Keyword index over request descriptions, used to find the requests a newly added item could fulfil.
+ * A description is split into case-folded words; short words and common filler words are dropped.
+ * An item matches a request when its name or description contains at least one of the request's keywords,
+ * and the more keywords it shares the better the match. Requests of the item's owner never match.
+ * Changes made inside a transaction are undone if that transaction rolls back.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMatchIndex {
+    static final int MIN_KEYWORD_LENGTH = 3;
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "with", "need", "want", "looking", "someone", "please", "any", "who", "can",
+            "нужен", "нужна", "нужно", "нужны", "ищу", "для", "кто", "чтобы", "пожалуйста", "есть", "или");
+
+    private final ItemRequestRepository itemRequestRepository;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // запросы читаются под блокировкой, чтобы параллельный put не потерялся при замене индекса
+        write(() -> {
+            List<ItemRequest> requests = itemRequestRepository.findAll();
+            entries.clear();
+            postings.clear();
+            requests.forEach(request -> replace(request.getId(), Entry.of(request)));
+            return null;
+        });
+    }
+
+    public void put(ItemRequest request) {
+        Entry previous = write(() -> replace(request.getId(), Entry.of(request)));
+        onRollback(request.getId(), previous);
+    }
+
+    public void remove(Long requestId) {
+        Entry previous = write(() -> replace(requestId, null));
+        onRollback(requestId, previous);
+    }
+
+    /**
+     * Returns up to {@code limit} requests the item could fulfil, best match first.
+     */
+    public List<Match> match(Item item, int limit) {
+        Set<String> words = keywords(item.getName());
+        words.addAll(keywords(item.getDescription()));
+        Map<Long, Integer> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String word : words) {
+                for (Long requestId : postings.getOrDefault(word, Set.of())) {
+                    if (!entries.get(requestId).requestorId().equals(item.getOwnerId())) {
+                        scores.merge(requestId, 1, Integer::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scores.entrySet().stream()
+                .map(score -> new Match(score.getKey(), score.getValue()))
+                .sorted(Match.BEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    static Set<String> keywords(String text) {
+        Set<String> keywords = new HashSet<>();
+        if (text == null) {
+            return keywords;
+        }
+        for (String word : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.length() >= MIN_KEYWORD_LENGTH && !STOP_WORDS.contains(word)) {
+                keywords.add(word);
+            }
+        }
+        return keywords;
+    }
+
+    private Entry replace(Long requestId, Entry entry) {
+        Entry previous = entries.remove(requestId);
+        if (previous != null) {
+            for (String keyword : previous.keywords()) {
+                Set<Long> ids = postings.get(keyword);
+                ids.remove(requestId);
+                if (ids.isEmpty()) {
+                    postings.remove(keyword);
+                }
+            }
+        }
+        if (entry != null) {
+            entries.put(requestId, entry);
+            for (String keyword : entry.keywords()) {
+                postings.computeIfAbsent(keyword, key -> new HashSet<>()).add(requestId);
+            }
+        }
+        return previous;
+    }
+
+    private <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keeps the entry a request had before the transaction first touched it; a rollback restores that entry.
+     */
+    private void onRollback(Long requestId, Entry previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Undo undo = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(Undo.class::isInstance)
+                .map(Undo.class::cast)
+                .filter(registered -> registered.index() == this)
+                .findFirst()
+                .orElseGet(() -> {
+                    Undo registered = new Undo();
+                    TransactionSynchronizationManager.registerSynchronization(registered);
+                    return registered;
+                });
+        if (!undo.previous.containsKey(requestId)) {
+            undo.previous.put(requestId, previous);
+        }
+    }
+
+    private class Undo implements TransactionSynchronization {
+        private final Map<Long, Entry> previous = new HashMap<>();
+
+        RequestMatchIndex index() {
+            return RequestMatchIndex.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_ROLLED_BACK) {
+                write(() -> {
+                    previous.forEach(RequestMatchIndex.this::replace);
+                    return null;
+                });
+            }
+        }
+    }
+
+    public record Match(Long requestId, int score) {
+        static final Comparator<Match> BEST_FIRST = Comparator.comparingInt(Match::score).reversed()
+                .thenComparing(Match::requestId);
+    }
+
+    private record Entry(Long requestorId, Set<String> keywords) {
+        static Entry of(ItemRequest request) {
+            return new Entry(request.getRequestorId(), RequestMatchIndex.keywords(request.getDescription()));
+        }
+    }
+}
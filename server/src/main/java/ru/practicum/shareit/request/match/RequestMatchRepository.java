@@ -0,0 +1,19 @@
+package ru.practicum.shareit.request.match;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RequestMatchRepository extends JpaRepository<RequestMatch, Long> {
+    @Query("SELECT m.id AS id, r.id AS requestId, r.description AS description, i.id AS itemId, " +
+            "i.name AS itemName, m.score AS score, m.created AS created " +
+            "FROM RequestMatch m JOIN ItemRequest r ON r.id = m.requestId JOIN Item i ON i.id = m.itemId " +
+            "WHERE m.ownerId = :ownerId AND m.created <= :cursorCreated " +
+            "AND (m.created < :cursorCreated OR m.id < :cursorId) " +
+            "ORDER BY m.created DESC, m.id DESC")
+    List<RequestMatchView> findOwnerMatches(Long ownerId, LocalDateTime cursorCreated, Long cursorId,
+                                            Pageable pageable);
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.request.match;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records, for every new item, the requests its owner could fulfil with it,
+ * so owners read a short precomputed list instead of scanning all requests.
+ * New matches are also pushed to the item owner's booking stream once the item is committed.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RequestMatchService {
+    static final int MATCHES_PER_ITEM = 20;
+
+    private final RequestMatchIndex matchIndex;
+    private final RequestMatchRepository matchRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void onRequestAdded(ItemRequest request) {
+        matchIndex.put(request);
+    }
+
+    public void onItemAdded(Item item) {
+        if (!Boolean.TRUE.equals(item.getAvailable())) {
+            return;
+        }
+        List<RequestMatchIndex.Match> matches = matchIndex.match(item, MATCHES_PER_ITEM).stream()
+                .filter(match -> !match.requestId().equals(item.getRequestId()))
+                .toList();
+        if (matches.isEmpty()) {
+            return;
+        }
+        // запросы удаляются каскадно вместе с пользователем, поэтому индекс может ссылаться на уже удаленные
+        Set<Long> existing = new HashSet<>(itemRequestRepository.findAllById(
+                matches.stream().map(RequestMatchIndex.Match::requestId).toList()).stream()
+                .map(ItemRequest::getId)
+                .toList());
+        LocalDateTime now = LocalDateTime.now();
+        List<RequestMatch> found = matches.stream()
+                .filter(match -> {
+                    if (existing.contains(match.requestId())) {
+                        return true;
+                    }
+                    matchIndex.remove(match.requestId());
+                    return false;
+                })
+                .map(match -> new RequestMatch(match.requestId(), item.getId(), item.getOwnerId(), match.score(), now))
+                .toList();
+        matchRepository.saveAll(found).forEach(match -> eventPublisher.publishEvent(RequestMatchEvent.of(match)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestMatchView> getMatches(Long ownerId, KeysetPageRequest page) {
+        return matchRepository.findOwnerMatches(ownerId, page.cursorTime(), page.cursorId(), page.pageable());
+    }
+}
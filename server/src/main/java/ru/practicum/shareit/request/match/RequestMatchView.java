@@ -0,0 +1,19 @@
+package ru.practicum.shareit.request.match;
+
+import java.time.LocalDateTime;
+
+public interface RequestMatchView {
+    Long getId();
+
+    Long getRequestId();
+
+    String getDescription();
+
+    Long getItemId();
+
+    String getItemName();
+
+    Integer getScore();
+
+    LocalDateTime getCreated();
+}
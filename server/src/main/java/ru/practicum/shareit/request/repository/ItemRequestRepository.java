@@ -1,14 +1,20 @@
 package ru.practicum.shareit.request.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
     List<ItemRequest> findByRequestorIdOrderByCreatedDesc(Long id);
 
-    @Query("SELECT r FROM ItemRequest r WHERE r.id != :userId ORDER BY r.created DESC")
-    List<ItemRequest> findAllNotOwnerRequestsSortedByCreatedTimeDesc(Long userId);
+    // Граница курсора записана через r.created <= :cursorCreated, чтобы по индексу (created, id) шел диапазон
+    @Query("SELECT r FROM ItemRequest r WHERE r.requestorId <> :userId AND r.created <= :cursorCreated " +
+            "AND (r.created < :cursorCreated OR r.id < :cursorId) " +
+            "ORDER BY r.created DESC, r.id DESC")
+    List<ItemRequest> findOtherUsersRequests(Long userId, LocalDateTime cursorCreated, Long cursorId,
+                                             Pageable pageable);
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithoutResponses;
 import ru.practicum.shareit.request.dto.ItemRequestRequset;
+import ru.practicum.shareit.request.match.RequestMatchView;
 
 import java.util.List;
 
@@ -11,7 +13,9 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getMyRequests(Long userId);
 
-    List<ItemRequestDtoWithoutResponses> getAllRequests(Long userId);
+    List<ItemRequestDtoWithoutResponses> getAllRequests(Long userId, KeysetPageRequest page);
+
+    List<RequestMatchView> getMatches(Long ownerId, KeysetPageRequest page);
 
     ItemRequestDto getRequest(Long requestId, Long userId);
 }
\ No newline at end of file
@@ -1,20 +1,25 @@
 package ru.practicum.shareit.request.service.impl;
 
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithoutResponses;
 import ru.practicum.shareit.request.dto.ItemRequestRequset;
+import ru.practicum.shareit.request.map.ItemRequestMapper;
+import ru.practicum.shareit.request.match.RequestMatchService;
+import ru.practicum.shareit.request.match.RequestMatchView;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -22,21 +27,30 @@ import java.util.List;
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemService itemService;
     private final ItemRequestRepository itemRequestRepository;
-    private final ModelMapper modelMapper;
+    private final ItemRequestMapper itemRequestMapper;
+    private final RequestMatchService requestMatchService;
 
     @Override
     public ItemRequestDtoWithoutResponses addRequest(ItemRequestRequset request, Long userId) {
-        ItemRequest itemRequest = modelMapper.map(request, ItemRequest.class);
+        ItemRequest itemRequest = itemRequestMapper.toItemRequest(request);
         itemRequest.setRequestorId(userId);
         itemRequest.setCreated(LocalDateTime.now());
-        return modelMapper.map(itemRequestRepository.save(itemRequest), ItemRequestDtoWithoutResponses.class);
+        ItemRequest saved = itemRequestRepository.save(itemRequest);
+        requestMatchService.onRequestAdded(saved);
+        return itemRequestMapper.toDtoWithoutResponses(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RequestMatchView> getMatches(Long ownerId, KeysetPageRequest page) {
+        return requestMatchService.getMatches(ownerId, page);
     }
 
     @Override
     public ItemRequestDto getRequest(Long requestId, Long userId) {
         return itemRequestRepository.findById(requestId)
                 .map(itemRequest -> {
-                    ItemRequestDto dto = modelMapper.map(itemRequest, ItemRequestDto.class);
+                    ItemRequestDto dto = itemRequestMapper.toDto(itemRequest);
                     dto.setItems(itemService.getItemsByRequestId(requestId));
                     return dto;
                 })
@@ -48,17 +62,22 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     public List<ItemRequestDto> getMyRequests(Long userId) {
         List<ItemRequestDto> itemRequestDtos =
                 itemRequestRepository.findByRequestorIdOrderByCreatedDesc(userId).stream()
-                        .map(itemRequest -> modelMapper.map(itemRequest, ItemRequestDto.class))
+                        .map(itemRequestMapper::toDto)
                         .toList();
 
-        itemRequestDtos.forEach(itemRequestDto -> itemRequestDto.setItems(itemService.getItemsByRequestId(itemRequestDto.getId())));
+        Map<Long, List<ItemResponseDto>> items =
+                itemService.getItemsByRequestIds(itemRequestDtos.stream().map(ItemRequestDto::getId).toList());
+        itemRequestDtos.forEach(itemRequestDto ->
+                itemRequestDto.setItems(items.getOrDefault(itemRequestDto.getId(), List.of())));
         return itemRequestDtos;
     }
 
     @Override
-    public List<ItemRequestDtoWithoutResponses> getAllRequests(Long userId) {
-        return itemRequestRepository.findAllNotOwnerRequestsSortedByCreatedTimeDesc(userId).stream()
-                .map(itemRequest -> modelMapper.map(itemRequest, ItemRequestDtoWithoutResponses.class))
+    @Transactional(readOnly = true)
+    public List<ItemRequestDtoWithoutResponses> getAllRequests(Long userId, KeysetPageRequest page) {
+        return itemRequestRepository.findOtherUsersRequests(userId, page.cursorTime(), page.cursorId(), page.pageable())
+                .stream()
+                .map(itemRequestMapper::toDtoWithoutResponses)
                 .toList();
     }
 }
\ No newline at end of file
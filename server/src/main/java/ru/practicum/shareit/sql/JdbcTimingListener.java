@@ -0,0 +1,31 @@
+package ru.practicum.shareit.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Created by Hibernate for every session, so the start time is never shared between threads.
+ */
+public class JdbcTimingListener implements SessionEventListener {
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.jdbcExecuted(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.jdbcExecuted(System.nanoTime() - batchStart);
+    }
+}
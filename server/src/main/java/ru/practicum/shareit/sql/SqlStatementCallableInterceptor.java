@@ -0,0 +1,33 @@
+package ru.practicum.shareit.sql;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Carries the statistics of a request onto the async thread that runs its {@code Callable} or
+ * {@code StreamingResponseBody}, so statements issued while the body is streamed count towards the request.
+ */
+public class SqlStatementCallableInterceptor implements CallableProcessingInterceptor {
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        // задача может стартовать раньше, чем afterConcurrentHandlingStarted отвяжет статистику от потока запроса
+        request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, SqlStatementStats.current(),
+                RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof SqlStatementStats stats) {
+            SqlStatementStats.resume(stats);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        SqlStatementStats.end();
+    }
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class SqlStatementConfig implements WebMvcConfigurer {
+    private static final String STATEMENT_INSPECTOR = "hibernate.session_factory.statement_inspector";
+    private static final String SESSION_EVENTS = "hibernate.session.events.auto";
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final int budget;
+
+    public SqlStatementConfig(ObjectProvider<MeterRegistry> registry,
+                              @Value("${shareit.sql-stats.budget:20}") int budget) {
+        this.registry = registry;
+        this.budget = budget;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new SqlStatementInterceptor(registry.getIfAvailable(), budget));
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new SqlStatementCallableInterceptor());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementHibernateProperties() {
+        // Инспектор, заданный явно в spring.jpa.properties, не подменяем
+        return properties -> {
+            properties.putIfAbsent(STATEMENT_INSPECTOR, SqlStatementCounter.class.getName());
+            properties.putIfAbsent(SESSION_EVENTS, JdbcTimingListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlStatementCounter implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats.statementPrepared();
+        return sql;
+    }
+}
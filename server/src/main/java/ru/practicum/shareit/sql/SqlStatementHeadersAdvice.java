@@ -0,0 +1,59 @@
+package ru.practicum.shareit.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds the statement count and JDBC time of the request to its response right before the body is written.
+ * With {@code shareit.sql-stats.fail-on-budget} a request over budget fails instead, so tests catch N+1 regressions.
+ */
+@RestControllerAdvice
+public class SqlStatementHeadersAdvice implements ResponseBodyAdvice<Object> {
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time";
+
+    private final boolean headers;
+    private final int budget;
+    private final boolean failOnBudget;
+
+    public SqlStatementHeadersAdvice(@Value("${shareit.sql-stats.headers:true}") boolean headers,
+                                     @Value("${shareit.sql-stats.budget:20}") int budget,
+                                     @Value("${shareit.sql-stats.fail-on-budget:false}") boolean failOnBudget) {
+        this.headers = headers;
+        this.budget = budget;
+        this.failOnBudget = failOnBudget;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats == null) {
+            return body;
+        }
+        // Ответ об ошибке превышения тоже проходит через совет - проверяем бюджет один раз
+        if (failOnBudget && stats.getStatements() > budget && stats.checkBudgetOnce()) {
+            throw new IllegalStateException(String.format("%s ran %d SQL statements, budget is %d",
+                    request.getURI().getPath(), stats.getStatements(), budget));
+        }
+        if (headers) {
+            response.getHeaders().set(COUNT_HEADER, String.valueOf(stats.getStatements()));
+            response.getHeaders().set(TIME_HEADER, String.format(Locale.ROOT, "%.3f", stats.getJdbcNanos() / 1e6));
+        }
+        return body;
+    }
+}
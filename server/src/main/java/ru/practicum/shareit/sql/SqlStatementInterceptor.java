@@ -0,0 +1,67 @@
+package ru.practicum.shareit.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementInterceptor implements AsyncHandlerInterceptor {
+    private final MeterRegistry registry;
+    private final int budget;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // повторная диспетчеризация асинхронного запроса продолжает его статистику, а не начинает новую
+        if (request.getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE) instanceof SqlStatementStats stats) {
+            SqlStatementStats.resume(stats);
+        } else {
+            SqlStatementStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // асинхронный запрос (SSE, потоковый ответ) освобождает поток раньше, чем завершится,
+        // а afterCompletion для него придет уже из асинхронной обработки
+        request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, SqlStatementStats.end());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        SqlStatementStats stats = SqlStatementStats.end();
+        if (stats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+
+        if (registry != null) {
+            DistributionSummary.builder("shareit.sql.statements")
+                    .tags("controller", controller, "method", method)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(stats.getStatements());
+            Timer.builder("shareit.sql.time")
+                    .tags("controller", controller, "method", method)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (stats.getStatements() > budget) {
+            log.warn("{} {} ({}.{}) ran {} SQL statements, budget is {}", request.getMethod(),
+                    request.getRequestURI(), controller, method, stats.getStatements(), budget);
+        }
+    }
+}
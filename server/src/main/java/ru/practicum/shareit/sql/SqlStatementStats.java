@@ -0,0 +1,75 @@
+package ru.practicum.shareit.sql;
+
+/**
+ * SQL statements prepared and JDBC time spent by the HTTP request bound to the current thread.
+ * Hibernate reports into it through {@link SqlStatementCounter} and {@link JdbcTimingListener},
+ * plain JDBC through {@link #batchExecuted} and {@link #queryExecuted}; statements issued outside a request
+ * are not tracked. An async request keeps its statistics in a request attribute between threads.
+ */
+public final class SqlStatementStats {
+    static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private boolean budgetChecked;
+
+    private SqlStatementStats() {
+    }
+
+    static void begin() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    static void resume(SqlStatementStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    static SqlStatementStats end() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void statementPrepared() {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void jdbcExecuted(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    public static void batchExecuted(long nanos) {
+        statementPrepared();
+        jdbcExecuted(nanos);
+    }
+
+    public static void queryExecuted(long nanos) {
+        statementPrepared();
+        jdbcExecuted(nanos);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    boolean checkBudgetOnce() {
+        boolean first = !budgetChecked;
+        budgetChecked = true;
+        return first;
+    }
+}
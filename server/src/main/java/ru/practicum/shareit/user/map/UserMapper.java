@@ -0,0 +1,13 @@
+package ru.practicum.shareit.user.map;
+
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserRequest;
+import ru.practicum.shareit.user.model.User;
+
+public interface UserMapper {
+    UserDto toDto(User user);
+
+    User toUser(UserRequest userRequest);
+
+    User copy(User user);
+}
@@ -1,7 +1,6 @@
 package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,6 +9,7 @@ import ru.practicum.shareit.error.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserRequest;
 import ru.practicum.shareit.user.dto.UserUpdateRequest;
+import ru.practicum.shareit.user.map.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -18,22 +18,22 @@ import ru.practicum.shareit.user.repository.UserRepository;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
     @Override
     @Transactional(readOnly = true)
     public UserDto get(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("User with id " + id + " not found"));
-        return modelMapper.map(user, UserDto.class);
+        return userMapper.toDto(user);
     }
 
     @Override
     public UserDto save(UserRequest userRequest) {
         try {
-            User user = modelMapper.map(userRequest, User.class);
-            User savedUser = userRepository.save(user);
-            return modelMapper.map(savedUser, UserDto.class);
+            User user = userMapper.toUser(userRequest);
+            User savedUser = userRepository.saveAndFlush(user);
+            return userMapper.toDto(savedUser);
         } catch (DataIntegrityViolationException e) {
             throw new DuplicateEmailException("Email " + userRequest.getEmail() + " already exists");
         }
@@ -44,7 +44,7 @@ public class UserServiceImpl implements UserService {
         return userRepository.findById(id)
                 .map(user -> {
                     updateUserFields(user, userUpdateRequest);
-                    return modelMapper.map(userRepository.save(user), UserDto.class);
+                    return userMapper.toDto(userRepository.save(user));
                 })
                 .orElseThrow(() -> new NotFoundException("User with id " + id + " not found"));
     }
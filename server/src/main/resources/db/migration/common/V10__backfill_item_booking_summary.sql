@@ -0,0 +1,3 @@
+INSERT INTO item_booking_summary (item_id, stale_at)
+SELECT i.id, CURRENT_TIMESTAMP FROM items i
+WHERE NOT EXISTS (SELECT 1 FROM item_booking_summary s WHERE s.item_id = i.id);
@@ -0,0 +1 @@
+ALTER TABLE booking_tickets ADD COLUMN attempts INTEGER DEFAULT 0 NOT NULL;
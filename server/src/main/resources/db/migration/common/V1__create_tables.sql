@@ -50,8 +50,15 @@ CREATE TABLE IF NOT EXISTS comments (
     CONSTRAINT fk_author FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE
 );
 
-DELETE FROM users;
-DELETE FROM requests;
-DELETE FROM items;
-DELETE FROM bookings;
-DELETE FROM comments;
\ No newline at end of file
+CREATE TABLE IF NOT EXISTS item_booking_summary (
+    item_id BIGINT NOT NULL,
+    last_booking_id BIGINT,
+    last_start TIMESTAMP WITHOUT TIME ZONE,
+    last_end TIMESTAMP WITHOUT TIME ZONE,
+    next_booking_id BIGINT,
+    next_start TIMESTAMP WITHOUT TIME ZONE,
+    next_end TIMESTAMP WITHOUT TIME ZONE,
+    stale_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_item_booking_summary PRIMARY KEY (item_id),
+    CONSTRAINT fk_summary_item FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE
+);
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS request_matches (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    request_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    owner_id BIGINT NOT NULL,
+    score INTEGER NOT NULL,
+    created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_request_matches PRIMARY KEY (id),
+    CONSTRAINT uq_request_match UNIQUE (request_id, item_id),
+    CONSTRAINT fk_match_request FOREIGN KEY (request_id) REFERENCES requests(id) ON DELETE CASCADE,
+    CONSTRAINT fk_match_item FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE,
+    CONSTRAINT fk_match_owner FOREIGN KEY (owner_id) REFERENCES users(id) ON DELETE CASCADE
+);
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS booking_tickets (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    booker_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    booking_id BIGINT,
+    error VARCHAR(512),
+    created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    processed TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_booking_tickets PRIMARY KEY (id),
+    CONSTRAINT fk_ticket_booker FOREIGN KEY (booker_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_ticket_item FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE,
+    CONSTRAINT fk_ticket_booking FOREIGN KEY (booking_id) REFERENCES bookings(id) ON DELETE SET NULL
+);
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_booking_tickets_status ON booking_tickets (status, id);
+CREATE INDEX IF NOT EXISTS idx_booking_tickets_processed ON booking_tickets (processed);
@@ -0,0 +1,8 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_booker_start ON bookings (booker_id, start_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_item_start ON bookings (item_id, start_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_item_end ON bookings (item_id, end_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_items_owner ON items (owner_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_items_request ON items (request_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_requests_requestor_created ON requests (requestor_id, created);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_item ON comments (item_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_item_booking_summary_stale ON item_booking_summary (stale_at);
@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_item_created ON comments (item_id, created, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_comments_item;
@@ -0,0 +1 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_request_matches_owner_created ON request_matches (owner_id, created, id);
@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_booking_tickets_status ON booking_tickets (status, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_booking_tickets_processed ON booking_tickets (processed);
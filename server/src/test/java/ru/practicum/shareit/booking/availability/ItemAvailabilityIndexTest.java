@@ -0,0 +1,159 @@
+package ru.practicum.shareit.booking.availability;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.TimeSlotDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.error.exception.ConflictException;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemAvailabilityIndexTest {
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1);
+
+    private final AtomicLong ids = new AtomicLong(100);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private ItemAvailabilityIndex availabilityIndex;
+
+    @Test
+    void shouldRejectReservationOverlappingExistingBooking() {
+        when(bookingRepository.findIntervalsByItemId(eq(1L), eq(ItemAvailabilityIndex.BLOCKING_STATUSES),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingInterval(1L, START, START.plusDays(2))));
+
+        assertThrows(ConflictException.class, () -> reserve(START.plusDays(1), START.plusDays(3)));
+        assertThrows(ConflictException.class, () -> reserve(START.minusHours(1), START.plusHours(1)));
+    }
+
+    @Test
+    void shouldAllowReservationsTouchingExistingBooking() {
+        when(bookingRepository.findIntervalsByItemId(eq(1L), eq(ItemAvailabilityIndex.BLOCKING_STATUSES),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingInterval(1L, START, START.plusDays(2))));
+
+        Booking before = reserve(START.minusDays(1), START);
+        Booking after = reserve(START.plusDays(2), START.plusDays(3));
+
+        assertThat(before.getId()).isNotNull();
+        assertThat(after.getId()).isNotNull();
+        verify(bookingRepository, times(1)).findIntervalsByItemId(eq(1L), eq(ItemAvailabilityIndex.BLOCKING_STATUSES),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldFreeOnlyReleasedPartOfMergedBlock() {
+        when(bookingRepository.findIntervalsByItemId(eq(1L), eq(ItemAvailabilityIndex.BLOCKING_STATUSES),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingInterval(1L, START, START.plusDays(3)),
+                        new BookingInterval(2L, START.plusDays(2), START.plusDays(5))));
+
+        availabilityIndex.release(booking(1L, START, START.plusDays(3)));
+
+        assertThat(reserve(START, START.plusDays(2)).getId()).isNotNull();
+        assertThrows(ConflictException.class, () -> reserve(START.plusDays(4), START.plusDays(6)));
+    }
+
+    @Test
+    void shouldRejectApprovalOverlappingAnotherBooking() {
+        when(bookingRepository.findIntervalsByItemId(eq(1L), eq(ItemAvailabilityIndex.BLOCKING_STATUSES),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingInterval(1L, START, START.plusDays(2))));
+
+        assertThrows(ConflictException.class, () -> availabilityIndex.hold(booking(2L, START, START.plusDays(1))));
+        availabilityIndex.hold(booking(1L, START, START.plusDays(2)));
+    }
+
+    @Test
+    void shouldReturnFreeSlotsBetweenBookedBlocks() {
+        when(bookingRepository.findIntervalsByItemId(eq(1L), eq(ItemAvailabilityIndex.BLOCKING_STATUSES),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingInterval(1L, START.minusDays(1), START.plusDays(1)),
+                        new BookingInterval(2L, START.plusDays(3), START.plusDays(4)),
+                        new BookingInterval(3L, START.plusDays(3).plusHours(12), START.plusDays(5))));
+
+        List<TimeSlotDto> slots = availabilityIndex.freeSlots(1L, START, START.plusDays(10));
+
+        assertThat(slots).containsExactly(new TimeSlotDto(START.plusDays(1), START.plusDays(3)),
+                new TimeSlotDto(START.plusDays(5), START.plusDays(10)));
+    }
+
+    @Test
+    void shouldAcceptOnlyOneOfConcurrentReservations() throws Exception {
+        when(bookingRepository.findIntervalsByItemId(eq(1L), eq(ItemAvailabilityIndex.BLOCKING_STATUSES),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        Callable<Boolean> task = () -> {
+            ready.await();
+            try {
+                reserve(START, START.plusDays(1));
+                return true;
+            } catch (ConflictException e) {
+                return false;
+            }
+        };
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(task));
+        }
+        ready.countDown();
+
+        int reserved = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                reserved++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(reserved).isEqualTo(1);
+    }
+
+    private Booking reserve(LocalDateTime start, LocalDateTime end) {
+        Booking booking = booking(null, start, end);
+        return availabilityIndex.reserve(booking, () -> {
+            booking.setId(ids.incrementAndGet());
+            return booking;
+        });
+    }
+
+    private Booking booking(Long id, LocalDateTime start, LocalDateTime end) {
+        Item item = new Item();
+        item.setId(1L);
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setItem(item);
+        booking.setStart(start);
+        booking.setEnd(end);
+        return booking;
+    }
+}
@@ -8,20 +8,35 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.booking.dto.BookingDecision;
+import ru.practicum.shareit.booking.dto.BookingDecisionResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.export.BookingExport;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.stream.BookingStatusStream;
+import ru.practicum.shareit.booking.ticket.BookingTicketDto;
+import ru.practicum.shareit.booking.ticket.BookingTicketService;
+import ru.practicum.shareit.booking.ticket.TicketStatus;
+import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BookingController.class)
@@ -33,6 +48,15 @@ class BookingControllerTest {
     @MockBean
     private BookingService bookingService;
 
+    @MockBean
+    private BookingStatusStream bookingStatusStream;
+
+    @MockBean
+    private BookingTicketService bookingTicketService;
+
+    @MockBean
+    private BookingExport bookingExport;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -70,6 +94,21 @@ class BookingControllerTest {
         verify(bookingService, times(1)).create(anyLong(), any(BookingRequest.class));
     }
 
+    @Test
+    void createBookingsShouldReturnAllBookings() throws Exception {
+        when(bookingService.createAll(eq(1L), anyList())).thenReturn(List.of(bookingDto, bookingDto));
+
+        mockMvc.perform(post("/bookings/bulk")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(bookingRequest, bookingRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        verify(bookingService, times(1)).createAll(eq(1L), argThat(requests -> requests.size() == 2));
+    }
+
     @Test
     void approveOrRejectBookingShouldReturnBookingDto() throws Exception {
         when(bookingService.approveOrRejectBooking(anyLong(), anyLong(), anyBoolean())).thenReturn(bookingDto);
@@ -86,6 +125,25 @@ class BookingControllerTest {
         verify(bookingService, times(1)).approveOrRejectBooking(anyLong(), anyLong(), anyBoolean());
     }
 
+    @Test
+    void approveOrRejectBookingsShouldReturnResultPerDecision() throws Exception {
+        List<BookingDecision> decisions = List.of(new BookingDecision(1L, true), new BookingDecision(2L, false));
+        when(bookingService.approveOrRejectBookings(1L, decisions)).thenReturn(List.of(
+                BookingDecisionResult.ok(bookingDto),
+                BookingDecisionResult.failed(2L, 409, "Booking 2 is already APPROVED")));
+
+        mockMvc.perform(patch("/bookings/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(decisions)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].code").value(200))
+                .andExpect(jsonPath("$[0].booking.id").value(1L))
+                .andExpect(jsonPath("$[1].bookingId").value(2L))
+                .andExpect(jsonPath("$[1].code").value(409))
+                .andExpect(jsonPath("$[1].error").value("Booking 2 is already APPROVED"));
+    }
+
     @Test
     void getBookingShouldReturnBookingDto() throws Exception {
         // Мокаем сервис для получения бронирования
@@ -106,7 +164,8 @@ class BookingControllerTest {
     void getCustomerBookingsShouldReturnListOfBookings() throws Exception {
         // Мокаем сервис для получения всех бронирований клиента
         List<BookingDto> bookingList = Arrays.asList(bookingDto, bookingDto);
-        when(bookingService.getCustomerBookings(anyLong(), eq(State.ALL))).thenReturn(bookingList);
+        when(bookingService.getCustomerBookings(anyLong(), eq(State.ALL), any(KeysetPageRequest.class)))
+                .thenReturn(bookingList);
 
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 1L)
@@ -116,14 +175,15 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[1].id").value(1L));
 
-        verify(bookingService, times(1)).getCustomerBookings(anyLong(), eq(State.ALL));
+        verify(bookingService, times(1)).getCustomerBookings(anyLong(), eq(State.ALL), any(KeysetPageRequest.class));
     }
 
     @Test
     void getOwnersBookingsShouldReturnListOfBookings() throws Exception {
         // Мокаем сервис для получения всех бронирований владельца
         List<BookingDto> bookingList = Arrays.asList(bookingDto, bookingDto);
-        when(bookingService.getOwnersBookings(anyLong(), eq(State.ALL))).thenReturn(bookingList);
+        when(bookingService.getOwnersBookings(anyLong(), eq(State.ALL), any(KeysetPageRequest.class)))
+                .thenReturn(bookingList);
 
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", 1L)
@@ -133,6 +193,111 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[1].id").value(1L));
 
-        verify(bookingService, times(1)).getOwnersBookings(anyLong(), eq(State.ALL));
+        verify(bookingService, times(1)).getOwnersBookings(anyLong(), eq(State.ALL), any(KeysetPageRequest.class));
+    }
+
+    @Test
+    void getOwnersBookingsShouldReturnNextCursorWhenPageIsFull() throws Exception {
+        List<BookingDto> bookingList = Arrays.asList(bookingDto, bookingDto);
+        when(bookingService.getOwnersBookings(anyLong(), eq(State.ALL), any(KeysetPageRequest.class)))
+                .thenReturn(bookingList);
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string(KeysetPageRequest.NEXT_CURSOR_HEADER, "2024-12-01T10:00_1"));
+    }
+
+    @Test
+    void getCustomerBookingsShouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void streamStatusChangesShouldWriteServerSentEvents() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        when(bookingStatusStream.subscribe(1L)).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/bookings/stream")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(SseEmitter.event().name("booking-status").id("1").data("APPROVED"));
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(result.getResponse().getContentAsString())
+                .isEqualTo("event:booking-status\nid:1\ndata:APPROVED\n\n");
+    }
+
+    @Test
+    void streamStatusChangesShouldReturnNotFoundForUnknownUser() throws Exception {
+        when(bookingStatusStream.subscribe(1L)).thenThrow(new NotFoundException("Unavailable user id 1"));
+
+        mockMvc.perform(get("/bookings/stream")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void enqueueBookingShouldReturnAcceptedTicket() throws Exception {
+        BookingTicketDto ticket = new BookingTicketDto();
+        ticket.setId(7L);
+        ticket.setStatus(TicketStatus.PENDING);
+        when(bookingTicketService.enqueue(eq(1L), any(BookingRequest.class))).thenReturn(ticket);
+
+        mockMvc.perform(post("/bookings/async")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookingRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/bookings/tickets/7"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void getTicketShouldReturnTicket() throws Exception {
+        BookingTicketDto ticket = new BookingTicketDto();
+        ticket.setId(7L);
+        ticket.setStatus(TicketStatus.DONE);
+        ticket.setBooking(bookingDto);
+        when(bookingTicketService.getTicket(1L, 7L)).thenReturn(ticket);
+
+        mockMvc.perform(get("/bookings/tickets/7")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.booking.id").value(1L));
+    }
+
+    @Test
+    void exportOwnersBookingsShouldStreamNdjson() throws Exception {
+        when(bookingExport.ownerBookings(1L)).thenReturn(out -> out.write("{\"id\":1}\n{\"id\":2}\n".getBytes()));
+
+        MvcResult result = mockMvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void exportOwnersBookingsShouldReturnNotFoundForUnknownOwner() throws Exception {
+        when(bookingExport.ownerBookings(1L)).thenThrow(new NotFoundException("Unavailable owner id 1"));
+
+        mockMvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+}
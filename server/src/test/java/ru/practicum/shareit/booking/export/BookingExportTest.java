@@ -0,0 +1,100 @@
+package ru.practicum.shareit.booking.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.error.exception.NotFoundException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "shareit.booking-export.fetch-size=2")
+@Transactional
+class BookingExportTest {
+    private static final long OWNER_ID = 6000L;
+    private static final long BOOKER_ID = 6001L;
+    private static final long OTHER_OWNER_ID = 6002L;
+    private static final LocalDateTime START = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(1);
+
+    @Autowired
+    private BookingExport bookingExport;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Owner', 'owner@export.test')", OWNER_ID);
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Booker', 'booker@export.test')",
+                BOOKER_ID);
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Other', 'other@export.test')",
+                OTHER_OWNER_ID);
+        jdbcTemplate.update("INSERT INTO items (id, name, description, available, owner_id) " +
+                "VALUES (6000, 'Drill', 'Cordless', TRUE, ?)", OWNER_ID);
+        jdbcTemplate.update("INSERT INTO items (id, name, description, available, owner_id) " +
+                "VALUES (6001, 'Saw', 'Electric', FALSE, ?)", OTHER_OWNER_ID);
+        // пять броней больше fetchSize, чтобы курсор дочитывал порциями
+        for (int i = 0; i < 5; i++) {
+            insertBooking(6000 + i, 6000, START.plusDays(i), i % 2 == 0 ? "APPROVED" : "WAITING");
+        }
+        insertBooking(6010, 6001, START, "APPROVED");
+    }
+
+    @Test
+    void shouldWriteOneLinePerOwnerBookingNewestFirst() throws Exception {
+        List<BookingDto> bookings = export(OWNER_ID);
+
+        assertThat(bookings).extracting(BookingDto::getId).containsExactly(6004L, 6003L, 6002L, 6001L, 6000L);
+        BookingDto first = bookings.getFirst();
+        assertThat(first.getStart()).isEqualTo(START.plusDays(4));
+        assertThat(first.getEnd()).isEqualTo(START.plusDays(5));
+        assertThat(first.getStatus()).isEqualTo(Status.APPROVED);
+        assertThat(first.getItem().getName()).isEqualTo("Drill");
+        assertThat(first.getItem().getOwnerId()).isEqualTo(OWNER_ID);
+        assertThat(first.getBooker().getEmail()).isEqualTo("booker@export.test");
+    }
+
+    @Test
+    void shouldWriteNothingForOwnerWithoutBookings() throws Exception {
+        assertThat(export(BOOKER_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectUnknownOwnerBeforeStreaming() {
+        assertThrows(NotFoundException.class, () -> bookingExport.ownerBookings(7000L));
+    }
+
+    private List<BookingDto> export(long ownerId) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bookingExport.ownerBookings(ownerId).writeTo(out);
+        String body = out.toString(StandardCharsets.UTF_8);
+
+        List<BookingDto> bookings = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isEmpty()) {
+                bookings.add(objectMapper.readValue(line, BookingDto.class));
+            }
+        }
+        assertThat(body.isEmpty() || body.endsWith("\n")).isTrue();
+        return bookings;
+    }
+
+    private void insertBooking(long id, long itemId, LocalDateTime start, String status) {
+        jdbcTemplate.update("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", id, start, start.plusDays(1), itemId, BOOKER_ID, status);
+    }
+}
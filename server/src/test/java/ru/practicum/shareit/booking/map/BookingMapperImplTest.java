@@ -0,0 +1,81 @@
+package ru.practicum.shareit.booking.map;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.map.UserMapperImpl;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingMapperImplTest {
+    private final BookingMapper bookingMapper = new BookingMapperImpl(new UserMapperImpl());
+
+    @Test
+    void toDto_copiesItemAndBooker() {
+        Item item = new Item();
+        item.setId(1L);
+        item.setName("Drill");
+        item.setDescription("Cordless drill");
+        item.setAvailable(true);
+        item.setOwnerId(2L);
+
+        User booker = new User();
+        booker.setId(3L);
+        booker.setName("Booker");
+        booker.setEmail("booker@example.com");
+
+        Booking booking = new Booking();
+        booking.setId(4L);
+        booking.setStart(LocalDateTime.of(2030, 1, 1, 10, 0));
+        booking.setEnd(LocalDateTime.of(2030, 1, 2, 10, 0));
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStatus(Status.WAITING);
+
+        BookingDto dto = bookingMapper.toDto(booking);
+
+        assertEquals(4L, dto.getId());
+        assertEquals(booking.getStart(), dto.getStart());
+        assertEquals(booking.getEnd(), dto.getEnd());
+        assertEquals(Status.WAITING, dto.getStatus());
+        assertNotSame(item, dto.getItem());
+        assertEquals("Drill", dto.getItem().getName());
+        assertEquals(2L, dto.getItem().getOwnerId());
+        assertNotSame(booker, dto.getBooker());
+        assertEquals(booker, dto.getBooker());
+    }
+
+    @Test
+    void toDto_keepsMissingAssociationsNull() {
+        Booking booking = new Booking();
+        booking.setId(1L);
+
+        BookingDto dto = bookingMapper.toDto(booking);
+
+        assertEquals(1L, dto.getId());
+        assertNull(dto.getItem());
+        assertNull(dto.getBooker());
+        assertNull(dto.getStatus());
+    }
+
+    @Test
+    void toBooking_copiesOnlyPeriod() {
+        BookingRequest request = new BookingRequest();
+        request.setItemId(1L);
+        request.setStart(LocalDateTime.of(2030, 1, 1, 10, 0));
+        request.setEnd(LocalDateTime.of(2030, 1, 2, 10, 0));
+
+        Booking booking = bookingMapper.toBooking(request);
+
+        assertNull(booking.getId());
+        assertNull(booking.getItem());
+        assertEquals(request.getStart(), booking.getStart());
+        assertEquals(request.getEnd(), booking.getEnd());
+    }
+}
@@ -3,10 +3,15 @@ package ru.practicum.shareit.booking.repository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlMergeMode;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.ItemBookingTime;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,13 +22,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 @Sql(scripts = "/booking/repository/test-data.sql")
 class BookingRepositoryTest {
+    private static final LocalDateTime FIRST_PAGE = LocalDateTime.of(9999, 12, 31, 23, 59);
+    private static final Pageable PAGE = PageRequest.of(0, 10);
 
     @Autowired
     private BookingRepository bookingRepository;
 
     @Test
     void shouldReturnBookingsByBookerId() {
-        List<Booking> bookings = bookingRepository.getBookingsByBookerId(1L);
+        List<Booking> bookings = bookingRepository.getBookingsByBookerId(1L, FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getBooker().getId()).isEqualTo(1L);
@@ -32,7 +39,8 @@ class BookingRepositoryTest {
 
     @Test
     void shouldReturnBookingsByBookerIdAndStatus() {
-        List<Booking> bookings = bookingRepository.getBookingsByBookerIdAndStatus(1L, Status.APPROVED);
+        List<Booking> bookings = bookingRepository.getBookingsByBookerIdAndStatus(1L, Status.APPROVED,
+                FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getStatus()).isEqualTo(Status.APPROVED);
@@ -40,7 +48,8 @@ class BookingRepositoryTest {
 
     @Test
     void shouldReturnBookingsByBookerIdAndEndBefore() {
-        List<Booking> bookings = bookingRepository.getBookingsByBookerIdAndEndBefore(1L, LocalDateTime.now().plusDays(1));
+        List<Booking> bookings = bookingRepository.getBookingsByBookerIdAndEndBefore(1L, LocalDateTime.now().plusDays(1),
+                FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getEnd()).isBefore(LocalDateTime.now().plusDays(1));
@@ -48,14 +57,16 @@ class BookingRepositoryTest {
 
     @Test
     void shouldReturnBookingsByBookerIdAndStartAfter() {
-        List<Booking> bookings = bookingRepository.getBookingsByBookerIdAndStartAfter(1L, LocalDateTime.now());
+        List<Booking> bookings = bookingRepository.getBookingsByBookerIdAndStartAfter(1L, LocalDateTime.now(),
+                FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).isEmpty();
     }
 
     @Test
     void shouldReturnBookingsByBookerIdAndCurrentTime() {
-        List<Booking> bookings = bookingRepository.getBookingsByBookerIdAndCurrentTime(1L, LocalDateTime.now());
+        List<Booking> bookings = bookingRepository.getBookingsByBookerIdAndCurrentTime(1L, LocalDateTime.now(),
+                FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getBooker().getId()).isEqualTo(1L);
@@ -63,7 +74,7 @@ class BookingRepositoryTest {
 
     @Test
     void shouldReturnBookingsByOwnerId() {
-        List<Booking> bookings = bookingRepository.getBookingsByOwnerId(2L);
+        List<Booking> bookings = bookingRepository.getBookingsByOwnerId(2L, FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getItem().getOwnerId()).isEqualTo(2L);
@@ -71,7 +82,8 @@ class BookingRepositoryTest {
 
     @Test
     void shouldReturnBookingsByOwnerIdAndStatus() {
-        List<Booking> bookings = bookingRepository.getBookingsByOwnerIdAndStatus(2L, Status.APPROVED);
+        List<Booking> bookings = bookingRepository.getBookingsByOwnerIdAndStatus(2L, Status.APPROVED,
+                FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getStatus()).isEqualTo(Status.APPROVED);
@@ -79,7 +91,8 @@ class BookingRepositoryTest {
 
     @Test
     void shouldReturnBookingsByOwnerIdAndEndBefore() {
-        List<Booking> bookings = bookingRepository.getBookingsByOwnerIdAndEndBefore(2L, LocalDateTime.now().plusDays(1));
+        List<Booking> bookings = bookingRepository.getBookingsByOwnerIdAndEndBefore(2L, LocalDateTime.now().plusDays(1),
+                FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getEnd()).isBefore(LocalDateTime.now().plusDays(1));
@@ -87,7 +100,8 @@ class BookingRepositoryTest {
 
     @Test
     void shouldReturnBookingsByOwnerIdAndCurrentTime() {
-        List<Booking> bookings = bookingRepository.getBookingsByOwnerIdAndCurrentTime(2L, LocalDateTime.now());
+        List<Booking> bookings = bookingRepository.getBookingsByOwnerIdAndCurrentTime(2L, LocalDateTime.now(),
+                FIRST_PAGE, Long.MAX_VALUE, PAGE);
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getItem().getOwnerId()).isEqualTo(2L);
@@ -110,4 +124,54 @@ class BookingRepositoryTest {
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getItem().getId()).isEqualTo(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Sql(scripts = "/booking/repository/cursor-test-data.sql")
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    void shouldReturnBookerBookingsNewestFirstAfterCursor() {
+        Booking current = bookingRepository.findById(1L).orElseThrow();
+
+        List<Booking> firstPage = bookingRepository.getBookingsByBookerId(1L, FIRST_PAGE, Long.MAX_VALUE,
+                PageRequest.of(0, 2));
+        List<Booking> secondPage = bookingRepository.getBookingsByBookerId(1L, current.getStart(), current.getId(),
+                PageRequest.of(0, 2));
+
+        assertThat(firstPage).extracting(Booking::getId).containsExactly(3L, 1L);
+        assertThat(secondPage).extracting(Booking::getId).containsExactly(2L);
+    }
+
+    @Test
+    @Sql(scripts = "/booking/repository/cursor-test-data.sql")
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    void shouldHonourOffsetThatIsNotMultipleOfPageSize() {
+        List<Booking> bookings = bookingRepository.getBookingsByBookerId(1L, FIRST_PAGE, Long.MAX_VALUE,
+                KeysetPageRequest.of(1, 2).pageable());
+
+        assertThat(bookings).extracting(Booking::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @Sql(scripts = "/booking/repository/cursor-test-data.sql")
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    void shouldReturnLastAndNextBookingTimesOfItemsByStatus() {
+        Booking past = bookingRepository.findById(2L).orElseThrow();
+        Booking future = bookingRepository.findById(3L).orElseThrow();
+
+        List<ItemBookingTime> all = bookingRepository.findLastAndNextBookingTimes(List.of(1L), Status.WAITING,
+                LocalDateTime.now());
+        List<ItemBookingTime> approved = bookingRepository.findLastAndNextBookingTimes(List.of(1L), Status.APPROVED,
+                LocalDateTime.now());
+
+        assertThat(all).extracting(ItemBookingTime::getBookingId).containsExactly(future.getId());
+        assertThat(approved).extracting(ItemBookingTime::getBookingId).containsExactly(past.getId());
+        assertThat(approved.getFirst().getEnd()).isEqualTo(past.getEnd());
+    }
+
+    @Test
+    void shouldReturnCurrentBookingTimesOfItems() {
+        List<ItemBookingTime> times = bookingRepository.findCurrentBookingTimes(List.of(1L), Status.APPROVED,
+                LocalDateTime.now());
+
+        assertThat(times).extracting(ItemBookingTime::getBookingId).containsExactly(1L);
+    }
+}
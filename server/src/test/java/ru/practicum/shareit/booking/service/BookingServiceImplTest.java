@@ -5,20 +5,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatusBatch;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.booking.dto.BookingDecision;
+import ru.practicum.shareit.booking.dto.BookingDecisionResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.map.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.impl.BookingServiceImpl;
+import ru.practicum.shareit.booking.stream.BookingStatusEvent;
+import ru.practicum.shareit.error.exception.ConflictException;
 import ru.practicum.shareit.error.exception.NotAvailableException;
 import ru.practicum.shareit.error.exception.NotBookerException;
 import ru.practicum.shareit.error.exception.NotFoundException;
 import ru.practicum.shareit.error.exception.NotOwnerException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.summary.ItemBookingSummaryService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -26,6 +38,8 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -34,10 +48,14 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceImplTest {
+    private static final KeysetPageRequest PAGE = KeysetPageRequest.of(0, 10);
 
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private BookingStatusBatch bookingStatusBatch;
+
     @Mock
     private UserRepository userRepository;
 
@@ -45,7 +63,16 @@ class BookingServiceImplTest {
     private ItemRepository itemRepository;
 
     @Mock
-    private ModelMapper mapper;
+    private ItemAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ItemBookingSummaryService summaryService;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BookingServiceImpl bookingService;
@@ -77,9 +104,11 @@ class BookingServiceImplTest {
 
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(mapper.map(bookingRequest, Booking.class)).thenReturn(booking);
+        when(bookingMapper.toBooking(bookingRequest)).thenReturn(booking);
         when(bookingRepository.save(booking)).thenReturn(savedBooking);
-        when(mapper.map(savedBooking, BookingDto.class)).thenReturn(bookingDto);
+        when(availabilityIndex.reserve(eq(booking), any())).thenAnswer(invocation ->
+                invocation.<Supplier<Booking>>getArgument(1).get());
+        when(bookingMapper.toDto(savedBooking)).thenReturn(bookingDto);
 
         BookingDto result = bookingService.create(userId, bookingRequest);
 
@@ -113,31 +142,109 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void shouldApproveBookingWhenUserIsOwnerAndApprovedIsTrue() {
-        Long userId = 1L;
-        Long bookingId = 3L;
+    void shouldThrowConflictExceptionWhenItemIsAlreadyBooked() {
+        BookingRequest bookingRequest = new BookingRequest();
+        bookingRequest.setItemId(2L);
 
-        Booking booking = new Booking();
         Item item = new Item();
-        item.setOwnerId(userId);
-        booking.setItem(item);
-        booking.setStatus(Status.WAITING);
+        item.setId(2L);
+        item.setAvailable(true);
 
-        Booking updatedBooking = new Booking();
-        updatedBooking.setStatus(Status.APPROVED);
+        Booking booking = new Booking();
+
+        when(itemRepository.findById(2L)).thenReturn(Optional.of(item));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User()));
+        when(bookingMapper.toBooking(bookingRequest)).thenReturn(booking);
+        when(availabilityIndex.reserve(eq(booking), any())).thenThrow(new ConflictException("Item 2 is already booked"));
+
+        assertThrows(ConflictException.class, () -> bookingService.create(1L, bookingRequest));
+
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateAllBookingsAndFlushOnce() {
+        User booker = new User();
+        Item drill = new Item();
+        drill.setId(2L);
+        drill.setAvailable(true);
+        Item saw = new Item();
+        saw.setId(3L);
+        saw.setAvailable(true);
+        List<BookingRequest> requests = List.of(bookingRequest(2L), bookingRequest(3L), bookingRequest(2L));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(booker));
+        when(itemRepository.findAllById(any())).thenReturn(List.of(drill, saw));
+        when(bookingMapper.toBooking(any(BookingRequest.class))).thenAnswer(invocation -> new Booking());
+        when(availabilityIndex.reserve(any(Booking.class), any(Supplier.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(bookingMapper.toDto(any(Booking.class))).thenAnswer(invocation -> new BookingDto());
+
+        List<BookingDto> result = bookingService.createAll(1L, requests);
+
+        assertThat(result).hasSize(3);
+        verify(itemRepository, times(1)).findAllById(any());
+        verify(availabilityIndex, times(3)).reserve(any(Booking.class), any(Supplier.class));
+        verify(bookingRepository, times(1)).flush();
+    }
+
+    @Test
+    void shouldNotCreateAnyBookingWhenItemIsMissing() {
+        Item drill = new Item();
+        drill.setId(2L);
+        drill.setAvailable(true);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User()));
+        when(itemRepository.findAllById(any())).thenReturn(List.of(drill));
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> bookingService.createAll(1L, List.of(bookingRequest(7L), bookingRequest(2L))));
+
+        assertEquals("Item 7 not found", exception.getMessage());
+        verifyNoInteractions(availabilityIndex);
+        verify(bookingRepository, never()).flush();
+    }
+
+    @Test
+    void shouldRejectEmptyBulk() {
+        assertThrows(IllegalArgumentException.class, () -> bookingService.createAll(1L, List.of()));
+        verifyNoInteractions(userRepository, itemRepository, bookingRepository);
+    }
+
+    @Test
+    void shouldApproveBookingWhenUserIsOwnerAndApprovedIsTrue() {
+        Long userId = 1L;
+        Long bookingId = 3L;
+        Booking booking = decidedBooking(bookingId, userId, Status.APPROVED);
         BookingDto bookingDto = new BookingDto();
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(new User()));
+        when(bookingRepository.updateStatusIfWaiting(bookingId, userId, Status.APPROVED)).thenReturn(1);
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(bookingRepository.save(booking)).thenReturn(updatedBooking);
-        when(mapper.map(updatedBooking, BookingDto.class)).thenReturn(bookingDto);
+        when(bookingMapper.toDto(booking)).thenReturn(bookingDto);
 
         BookingDto result = bookingService.approveOrRejectBooking(userId, bookingId, true);
 
         assertEquals(bookingDto, result);
-        assertEquals(Status.APPROVED, booking.getStatus());
-        verify(bookingRepository, times(1)).save(booking);
+        verify(availabilityIndex, times(1)).hold(booking);
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verifyNoInteractions(userRepository);
+        verify(summaryService, times(1)).onStatusChanged(booking, Status.WAITING);
+        verify(eventPublisher, times(1))
+                .publishEvent(new BookingStatusEvent(bookingId, 2L, 5L, userId, Status.APPROVED, null, null));
+    }
+
+    @Test
+    void shouldReleaseItemWhenBookingIsRejected() {
+        Booking booking = decidedBooking(3L, 1L, Status.REJECTED);
+
+        when(bookingRepository.updateStatusIfWaiting(3L, 1L, Status.REJECTED)).thenReturn(1);
+        when(bookingRepository.findById(3L)).thenReturn(Optional.of(booking));
+
+        bookingService.approveOrRejectBooking(1L, 3L, false);
+
+        verify(availabilityIndex, times(1)).release(booking);
+        verify(availabilityIndex, never()).hold(any());
     }
 
     @Test
@@ -145,29 +252,82 @@ class BookingServiceImplTest {
         Long userId = 1L;
         Long bookingId = 3L;
 
-        Booking booking = new Booking();
-        Item item = new Item();
-        item.setOwnerId(2L);
-        booking.setItem(item);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(new User()));
-        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        when(bookingRepository.updateStatusIfWaiting(bookingId, userId, Status.APPROVED)).thenReturn(0);
+        when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(decidedBooking(bookingId, 2L, Status.WAITING)));
 
         NotOwnerException exception = assertThrows(NotOwnerException.class,
                 () -> bookingService.approveOrRejectBooking(userId, bookingId, true));
 
         assertEquals("User 1 is not the owner of the booking", exception.getMessage());
-        verify(bookingRepository, never()).save(any(Booking.class));
+        verifyNoInteractions(availabilityIndex, summaryService, eventPublisher);
     }
 
     @Test
-    void shouldThrowNotAvailableExceptionWhenUserHasNotAvailableId() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+    void shouldThrowConflictExceptionWhenBookingIsAlreadyDecided() {
+        when(bookingRepository.updateStatusIfWaiting(3L, 1L, Status.REJECTED)).thenReturn(0);
+        when(bookingRepository.findById(3L)).thenReturn(Optional.of(decidedBooking(3L, 1L, Status.APPROVED)));
 
-        assertThrows(NotAvailableException.class,
-                () -> bookingService.approveOrRejectBooking(1L, 1L, true));
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> bookingService.approveOrRejectBooking(1L, 3L, false));
 
-        verify(userRepository, times(1)).findById(anyLong());
+        assertEquals("Booking 3 is already APPROVED", exception.getMessage());
+        verifyNoInteractions(availabilityIndex, summaryService, eventPublisher);
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenDecidingMissingBooking() {
+        when(bookingRepository.updateStatusIfWaiting(3L, 1L, Status.APPROVED)).thenReturn(0);
+        when(bookingRepository.findById(3L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> bookingService.approveOrRejectBooking(1L, 3L, true));
+    }
+
+    @Test
+    void shouldReportEveryDecisionOfBatch() {
+        List<BookingDecision> decisions = List.of(
+                new BookingDecision(3L, true),
+                new BookingDecision(4L, false),
+                new BookingDecision(5L, true),
+                new BookingDecision(6L, true),
+                new BookingDecision(3L, false));
+        Booking approved = decidedBooking(3L, 1L, Status.APPROVED);
+        Booking rejected = decidedBooking(4L, 1L, Status.REJECTED);
+        Booking foreign = decidedBooking(5L, 2L, Status.WAITING);
+        BookingDto approvedDto = new BookingDto();
+        approvedDto.setId(3L);
+        BookingDto rejectedDto = new BookingDto();
+        rejectedDto.setId(4L);
+
+        when(bookingStatusBatch.updateIfWaiting(1L, decisions))
+                .thenReturn(new boolean[]{true, true, false, false, false});
+        when(bookingRepository.findAllWithItemAndBookerByIdIn(List.of(3L, 4L, 5L, 6L, 3L)))
+                .thenReturn(List.of(approved, rejected, foreign));
+        when(bookingMapper.toDto(approved)).thenReturn(approvedDto);
+        when(bookingMapper.toDto(rejected)).thenReturn(rejectedDto);
+
+        List<BookingDecisionResult> results = bookingService.approveOrRejectBookings(1L, decisions);
+
+        assertThat(results).extracting(BookingDecisionResult::getBookingId).containsExactly(3L, 4L, 5L, 6L, 3L);
+        assertThat(results).extracting(BookingDecisionResult::getCode).containsExactly(200, 200, 403, 404, 409);
+        assertEquals(approvedDto, results.get(0).getBooking());
+        assertEquals("Booking 3 is already APPROVED", results.get(4).getError());
+        verify(availabilityIndex, times(1)).hold(approved);
+        verify(availabilityIndex, times(1)).release(rejected);
+        verify(summaryService, times(2)).onStatusChanged(any(), eq(Status.WAITING));
+        verify(eventPublisher, times(2)).publishEvent(any(BookingStatusEvent.class));
+    }
+
+    @Test
+    void shouldRejectEmptyOrOversizedBatch() {
+        List<BookingDecision> tooMany = LongStream.rangeClosed(1, 101)
+                .mapToObj(id -> new BookingDecision(id, true))
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.approveOrRejectBookings(1L, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> bookingService.approveOrRejectBookings(1L, tooMany));
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.approveOrRejectBookings(1L, List.of(new BookingDecision(3L, null))));
+        verifyNoInteractions(bookingStatusBatch, bookingRepository);
     }
 
     @Test
@@ -177,7 +337,7 @@ class BookingServiceImplTest {
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking));
-        when(mapper.map(booking, BookingDto.class)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking)).thenReturn(bookingDto1);
 
         BookingDto bookingDto2 = bookingService.getBooking(1L, 1L);
 
@@ -205,18 +365,20 @@ class BookingServiceImplTest {
         BookingDto bookingDto2 = new BookingDto();
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByBookerId(anyLong())).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
-        when(mapper.map(booking2, BookingDto.class)).thenReturn(bookingDto2);
+        when(bookingRepository.getBookingsByBookerId(anyLong(), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking2)).thenReturn(bookingDto2);
 
-        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.ALL);
+        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.ALL, PAGE);
 
         assertThat(bookingDtos).hasSize(2);
         assertThat(bookingDtos.get(0)).isEqualTo(bookingDto1);
         assertThat(bookingDtos.get(1)).isEqualTo(bookingDto2);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByBookerId(anyLong());
+        verify(bookingRepository, times(1))
+                .getBookingsByBookerId(anyLong(), any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -229,18 +391,20 @@ class BookingServiceImplTest {
         BookingDto bookingDto2 = new BookingDto();
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByBookerIdAndStatus(anyLong(), eq(Status.WAITING))).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
-        when(mapper.map(booking2, BookingDto.class)).thenReturn(bookingDto2);
+        when(bookingRepository.getBookingsByBookerIdAndStatus(anyLong(), eq(Status.WAITING), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class))).thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking2)).thenReturn(bookingDto2);
 
-        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.WAITING);
+        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.WAITING, PAGE);
 
         assertThat(bookingDtos).hasSize(2);
         assertThat(bookingDtos.get(0)).isEqualTo(bookingDto1);
         assertThat(bookingDtos.get(1)).isEqualTo(bookingDto2);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByBookerIdAndStatus(anyLong(), eq(Status.WAITING));
+        verify(bookingRepository, times(1)).getBookingsByBookerIdAndStatus(anyLong(), eq(Status.WAITING), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class));
     }
 
     @Test
@@ -253,18 +417,20 @@ class BookingServiceImplTest {
         BookingDto bookingDto2 = new BookingDto();
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByBookerIdAndEndBefore(anyLong(), any(LocalDateTime.class))).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
-        when(mapper.map(booking2, BookingDto.class)).thenReturn(bookingDto2);
+        when(bookingRepository.getBookingsByBookerIdAndEndBefore(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class))).thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking2)).thenReturn(bookingDto2);
 
-        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.PAST);
+        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.PAST, PAGE);
 
         assertThat(bookingDtos).hasSize(2);
         assertThat(bookingDtos.get(0)).isEqualTo(bookingDto1);
         assertThat(bookingDtos.get(1)).isEqualTo(bookingDto2);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByBookerIdAndEndBefore(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).getBookingsByBookerIdAndEndBefore(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -277,18 +443,20 @@ class BookingServiceImplTest {
         BookingDto bookingDto2 = new BookingDto();
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByBookerIdAndCurrentTime(anyLong(), any(LocalDateTime.class))).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
-        when(mapper.map(booking2, BookingDto.class)).thenReturn(bookingDto2);
+        when(bookingRepository.getBookingsByBookerIdAndCurrentTime(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class))).thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking2)).thenReturn(bookingDto2);
 
-        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.CURRENT);
+        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.CURRENT, PAGE);
 
         assertThat(bookingDtos).hasSize(2);
         assertThat(bookingDtos.get(0)).isEqualTo(bookingDto1);
         assertThat(bookingDtos.get(1)).isEqualTo(bookingDto2);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByBookerIdAndCurrentTime(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).getBookingsByBookerIdAndCurrentTime(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -301,18 +469,20 @@ class BookingServiceImplTest {
         BookingDto bookingDto2 = new BookingDto();
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByBookerIdAndStartAfter(anyLong(), any(LocalDateTime.class))).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
-        when(mapper.map(booking2, BookingDto.class)).thenReturn(bookingDto2);
+        when(bookingRepository.getBookingsByBookerIdAndStartAfter(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class))).thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking2)).thenReturn(bookingDto2);
 
-        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.FUTURE);
+        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.FUTURE, PAGE);
 
         assertThat(bookingDtos).hasSize(2);
         assertThat(bookingDtos.get(0)).isEqualTo(bookingDto1);
         assertThat(bookingDtos.get(1)).isEqualTo(bookingDto2);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByBookerIdAndStartAfter(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).getBookingsByBookerIdAndStartAfter(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -325,25 +495,58 @@ class BookingServiceImplTest {
         BookingDto bookingDto2 = new BookingDto();
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByBookerIdAndStatus(anyLong(), eq(Status.REJECTED))).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
-        when(mapper.map(booking2, BookingDto.class)).thenReturn(bookingDto2);
+        when(bookingRepository.getBookingsByBookerIdAndStatus(anyLong(), eq(Status.REJECTED), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class))).thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking2)).thenReturn(bookingDto2);
 
-        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.REJECTED);
+        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(anyLong(), State.REJECTED, PAGE);
 
         assertThat(bookingDtos).hasSize(2);
         assertThat(bookingDtos.get(0)).isEqualTo(bookingDto1);
         assertThat(bookingDtos.get(1)).isEqualTo(bookingDto2);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByBookerIdAndStatus(anyLong(), eq(Status.REJECTED));
+        verify(bookingRepository, times(1)).getBookingsByBookerIdAndStatus(anyLong(), eq(Status.REJECTED), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class));
+    }
+
+    @Test
+    void shouldGetCustomerBookingsAfterCursor() {
+        KeysetPageRequest page = KeysetPageRequest.of(0, 5, "2024-12-01T10:00_7");
+        Booking booking = new Booking();
+        BookingDto bookingDto = new BookingDto();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User()));
+        when(bookingRepository.getBookingsByBookerId(1L, LocalDateTime.of(2024, 12, 1, 10, 0), 7L, PageRequest.of(0, 5)))
+                .thenReturn(List.of(booking));
+        when(bookingMapper.toDto(booking)).thenReturn(bookingDto);
+
+        List<BookingDto> bookingDtos = bookingService.getCustomerBookings(1L, State.ALL, page);
+
+        assertThat(bookingDtos).containsExactly(bookingDto);
+    }
+
+    @Test
+    void shouldGetOwnerBookingsByOffsetWhenCursorIsAbsent() {
+        KeysetPageRequest page = KeysetPageRequest.of(25, 10, null);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User()));
+        when(bookingRepository.getBookingsByOwnerIdAndStatus(eq(1L), eq(Status.WAITING), any(LocalDateTime.class),
+                eq(Long.MAX_VALUE), eq(new OffsetPageRequest(25, 10))))
+                .thenReturn(List.of());
+
+        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(1L, State.WAITING, page);
+
+        assertThat(bookingDtos).isEmpty();
+        verifyNoInteractions(bookingMapper);
     }
 
     @Test
     void shouldThrowNotBookerExceptionWhenBookerIdIsUnavailable() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(NotBookerException.class, () -> bookingService.getCustomerBookings(1L, State.ALL));
+        assertThrows(NotBookerException.class, () -> bookingService.getCustomerBookings(1L, State.ALL, PAGE));
 
         verify(userRepository, times(1)).findById(anyLong());
     }
@@ -358,18 +561,20 @@ class BookingServiceImplTest {
         BookingDto bookingDto2 = new BookingDto();
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByOwnerId(anyLong())).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
-        when(mapper.map(booking2, BookingDto.class)).thenReturn(bookingDto2);
+        when(bookingRepository.getBookingsByOwnerId(anyLong(), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking2)).thenReturn(bookingDto2);
 
-        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.ALL);
+        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.ALL, PAGE);
 
         assertThat(bookingDtos).hasSize(2);
         assertThat(bookingDtos.get(0)).isEqualTo(bookingDto1);
         assertThat(bookingDtos.get(1)).isEqualTo(bookingDto2);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByOwnerId(anyLong());
+        verify(bookingRepository, times(1))
+                .getBookingsByOwnerId(anyLong(), any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -379,16 +584,18 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(booking1);
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByOwnerIdAndStatus(anyLong(), eq(Status.WAITING))).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
+        when(bookingRepository.getBookingsByOwnerIdAndStatus(anyLong(), eq(Status.WAITING), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class))).thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
 
-        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.WAITING);
+        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.WAITING, PAGE);
 
         assertThat(bookingDtos).hasSize(1);
         assertThat(bookingDtos.getFirst()).isEqualTo(bookingDto1);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndStatus(anyLong(), eq(Status.WAITING));
+        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndStatus(anyLong(), eq(Status.WAITING), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class));
     }
 
     @Test
@@ -398,17 +605,19 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(booking1);
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByOwnerIdAndEndBefore(anyLong(), any(LocalDateTime.class)))
+        when(bookingRepository.getBookingsByOwnerIdAndEndBefore(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class)))
                 .thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
 
-        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.PAST);
+        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.PAST, PAGE);
 
         assertThat(bookingDtos).hasSize(1);
         assertThat(bookingDtos.getFirst()).isEqualTo(bookingDto1);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndEndBefore(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndEndBefore(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -418,17 +627,19 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(booking1);
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByOwnerIdAndCurrentTime(anyLong(), any(LocalDateTime.class)))
+        when(bookingRepository.getBookingsByOwnerIdAndCurrentTime(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class)))
                 .thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
 
-        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.CURRENT);
+        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.CURRENT, PAGE);
 
         assertThat(bookingDtos).hasSize(1);
         assertThat(bookingDtos.getFirst()).isEqualTo(bookingDto1);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndCurrentTime(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndCurrentTime(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -438,17 +649,19 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(booking1);
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByOwnerIdAndStartAfter(anyLong(), any(LocalDateTime.class)))
+        when(bookingRepository.getBookingsByOwnerIdAndStartAfter(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class)))
                 .thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
 
-        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.FUTURE);
+        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.FUTURE, PAGE);
 
         assertThat(bookingDtos).hasSize(1);
         assertThat(bookingDtos.getFirst()).isEqualTo(bookingDto1);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndStartAfter(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndStartAfter(anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -458,24 +671,48 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(booking1);
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(bookingRepository.getBookingsByOwnerIdAndStatus(anyLong(), eq(Status.REJECTED))).thenReturn(bookings);
-        when(mapper.map(booking1, BookingDto.class)).thenReturn(bookingDto1);
+        when(bookingRepository.getBookingsByOwnerIdAndStatus(anyLong(), eq(Status.REJECTED), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class))).thenReturn(bookings);
+        when(bookingMapper.toDto(booking1)).thenReturn(bookingDto1);
 
-        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.REJECTED);
+        List<BookingDto> bookingDtos = bookingService.getOwnersBookings(anyLong(), State.REJECTED, PAGE);
 
         assertThat(bookingDtos).hasSize(1);
         assertThat(bookingDtos.getFirst()).isEqualTo(bookingDto1);
 
         verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndStatus(anyLong(), eq(Status.REJECTED));
+        verify(bookingRepository, times(1)).getBookingsByOwnerIdAndStatus(anyLong(), eq(Status.REJECTED), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenOwnerIdIsUnavailable() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(NotFoundException.class, () -> bookingService.getOwnersBookings(1L, State.ALL));
+        assertThrows(NotFoundException.class, () -> bookingService.getOwnersBookings(1L, State.ALL, PAGE));
 
         verify(userRepository, times(1)).findById(anyLong());
     }
-}
\ No newline at end of file
+
+    private static BookingRequest bookingRequest(Long itemId) {
+        BookingRequest request = new BookingRequest();
+        request.setItemId(itemId);
+        request.setStart(LocalDateTime.now().plusDays(1));
+        request.setEnd(LocalDateTime.now().plusDays(2));
+        return request;
+    }
+
+    private static Booking decidedBooking(Long bookingId, Long ownerId, Status status) {
+        Item item = new Item();
+        item.setId(2L);
+        item.setOwnerId(ownerId);
+        User booker = new User();
+        booker.setId(5L);
+        Booking booking = new Booking();
+        booking.setId(bookingId);
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStatus(status);
+        return booking;
+    }
+}
@@ -7,12 +7,19 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingRequest;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.error.exception.ConflictException;
+import ru.practicum.shareit.error.exception.NotOwnerException;
+import ru.practicum.shareit.item.summary.ItemBookingSummaryRepository;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Transactional
 @SpringBootTest()
@@ -21,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 class BookingServiceIntegrationTest {
 
     private final BookingService bookingService;
+    private final ItemBookingSummaryRepository summaryRepository;
 
     @Test
     void shouldApproveBooking() {
@@ -32,6 +40,14 @@ class BookingServiceIntegrationTest {
         assertThat(updatedBooking.getStatus()).isEqualTo(Status.APPROVED);
     }
 
+    @Test
+    void shouldCreateMissingSummaryWhenApproving() {
+        // вещь из SQL-скрипта создана без строки сводки
+        bookingService.approveOrRejectBooking(1L, 1L, true);
+
+        assertThat(summaryRepository.findById(1L)).isPresent();
+    }
+
     @Test
     void shouldRejectBooking() {
         Long ownerId = 1L;
@@ -42,6 +58,30 @@ class BookingServiceIntegrationTest {
         assertThat(updatedBooking.getStatus()).isEqualTo(Status.REJECTED);
     }
 
+    @Test
+    void shouldNotCreateBookingOverlappingWaitingBooking() {
+        BookingRequest request = new BookingRequest();
+        request.setItemId(1L);
+        request.setStart(LocalDateTime.now().plusHours(12));
+        request.setEnd(LocalDateTime.now().plusDays(2));
+
+        assertThrows(ConflictException.class, () -> bookingService.create(2L, request));
+    }
+
+    @Test
+    void shouldNotDecideBookingTwice() {
+        bookingService.approveOrRejectBooking(1L, 1L, false);
+
+        assertThrows(ConflictException.class, () -> bookingService.approveOrRejectBooking(1L, 1L, true));
+        assertThat(bookingService.getBooking(1L, 1L).getStatus()).isEqualTo(Status.REJECTED);
+    }
+
+    @Test
+    void shouldNotLetBookerDecideBooking() {
+        assertThrows(NotOwnerException.class, () -> bookingService.approveOrRejectBooking(2L, 1L, true));
+        assertThat(bookingService.getBooking(1L, 1L).getStatus()).isEqualTo(Status.WAITING);
+    }
+
     @Test
     void shouldGetBookingById() {
         Long userId = 2L;
@@ -58,7 +98,7 @@ class BookingServiceIntegrationTest {
     void shouldGetCustomerBookings() {
         Long userId = 2L;
 
-        List<BookingDto> bookings = bookingService.getCustomerBookings(userId, State.ALL);
+        List<BookingDto> bookings = bookingService.getCustomerBookings(userId, State.ALL, KeysetPageRequest.of(0, 10));
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getBooker().getId()).isEqualTo(2L);
@@ -68,7 +108,7 @@ class BookingServiceIntegrationTest {
     void shouldGetOwnerBookings() {
         Long ownerId = 1L;
 
-        List<BookingDto> bookings = bookingService.getOwnersBookings(ownerId, State.ALL);
+        List<BookingDto> bookings = bookingService.getOwnersBookings(ownerId, State.ALL, KeysetPageRequest.of(0, 10));
 
         assertThat(bookings).hasSize(1);
         assertThat(bookings.getFirst().getItem().getOwnerId()).isEqualTo(1L);
@@ -0,0 +1,158 @@
+package ru.practicum.shareit.booking.stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.request.match.RequestMatchEvent;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingStatusStreamTest {
+    private static final long BOOKER_ID = 1L;
+    private static final long OWNER_ID = 2L;
+    private static final long OTHER_ID = 3L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private BookingStatusStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new BookingStatusStream(userRepository, 60_000, 2, tasks::add);
+    }
+
+    @Test
+    void shouldRejectUnknownUser() {
+        when(userRepository.existsById(OTHER_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> stream.subscribe(OTHER_ID)).isInstanceOf(NotFoundException.class);
+        assertThat(stream.subscriberCount(OTHER_ID)).isZero();
+    }
+
+    @Test
+    void shouldPushStatusChangeToBookerAndOwnerOnly() {
+        subscribe(BOOKER_ID);
+        subscribe(OWNER_ID);
+        subscribe(OWNER_ID);
+        subscribe(OTHER_ID);
+
+        stream.onStatusChanged(event());
+
+        assertThat(tasks).hasSize(3);
+    }
+
+    @Test
+    void shouldPushRequestMatchToItemOwnerOnly() {
+        subscribe(BOOKER_ID);
+        subscribe(OWNER_ID);
+
+        stream.onRequestMatched(new RequestMatchEvent(10L, 20L, OWNER_ID, 2, LocalDateTime.now()));
+
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void shouldSendHeartbeatToEveryStream() {
+        subscribe(BOOKER_ID);
+        subscribe(OTHER_ID);
+
+        stream.heartbeat();
+
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    void shouldSendBufferedEventsInOrder() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        BookingStreamSubscriber subscriber = new BookingStreamSubscriber(emitter, 2);
+        Set<DataWithMediaType> first = SseEmitter.event().id("1").build();
+        Set<DataWithMediaType> second = SseEmitter.event().id("2").build();
+
+        assertThat(subscriber.offer(first)).isTrue();
+        assertThat(subscriber.offer(second)).isTrue();
+        subscriber.drain();
+
+        assertThat(emitter.sent).containsExactly(first, second);
+    }
+
+    @Test
+    void shouldDisconnectSubscriberWhenBufferOverflows() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        BookingStreamSubscriber subscriber = new BookingStreamSubscriber(emitter, 2);
+        Set<DataWithMediaType> event = SseEmitter.event().comment("heartbeat").build();
+
+        assertThat(subscriber.offer(event)).isTrue();
+        assertThat(subscriber.offer(event)).isTrue();
+        assertThat(subscriber.offer(event)).isFalse();
+        // отключенный клиент больше ничего не получает, даже если буфер освободился
+        assertThat(subscriber.offer(event)).isFalse();
+        subscriber.drain();
+
+        assertThat(emitter.sent).isEmpty();
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @Test
+    void shouldStopSendingWhenClientIsGone() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        BookingStreamSubscriber subscriber = new BookingStreamSubscriber(emitter, 2);
+
+        subscriber.offer(SseEmitter.event().id("1").build());
+        subscriber.drain();
+
+        assertThat(emitter.completed).isTrue();
+        assertThat(subscriber.offer(SseEmitter.event().id("2").build())).isFalse();
+    }
+
+    private void subscribe(long userId) {
+        when(userRepository.existsById(userId)).thenReturn(true);
+        stream.subscribe(userId);
+    }
+
+    private static BookingStatusEvent event() {
+        return new BookingStatusEvent(10L, 20L, BOOKER_ID, OWNER_ID, Status.APPROVED, null, null);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+        private boolean failing;
+        private boolean completed;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(items);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit.booking.ticket;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.error.exception.NotFoundException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Transactional
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@Sql(scripts = "/booking/ticket/test-data.sql")
+class BookingTicketServiceIntegrationTest {
+    private static final int BATCH_SIZE = 10;
+    private static final Long OWNER_ID = 1000L;
+    private static final Long BOOKER_ID = 1001L;
+    private static final Long ITEM_ID = 1000L;
+
+    private final BookingTicketService ticketService;
+
+    @Test
+    void shouldTurnPendingTicketsIntoBookings() {
+        BookingTicketDto ticket = ticketService.enqueue(BOOKER_ID, request(ITEM_ID, 3, 4));
+
+        assertThat(ticket.getStatus()).isEqualTo(TicketStatus.PENDING);
+        assertThat(ticket.getBooking()).isNull();
+
+        assertThat(ticketService.processNextBatch(BATCH_SIZE)).isEqualTo(1);
+        BookingTicketDto processed = ticketService.getTicket(BOOKER_ID, ticket.getId());
+
+        assertThat(processed.getStatus()).isEqualTo(TicketStatus.DONE);
+        assertThat(processed.getBooking().getStatus()).isEqualTo(Status.WAITING);
+        assertThat(processed.getBooking().getItem().getId()).isEqualTo(ITEM_ID);
+        assertThat(processed.getBooking().getBooker().getId()).isEqualTo(BOOKER_ID);
+        assertThat(ticketService.processNextBatch(BATCH_SIZE)).isZero();
+    }
+
+    @Test
+    void shouldFailTicketThatOverlapsExistingBooking() {
+        BookingTicketDto first = ticketService.enqueue(BOOKER_ID, request(ITEM_ID, 3, 5));
+        // вторая заявка на те же дни обрабатывается в той же пачке и должна упасть, не откатив первую
+        BookingTicketDto second = ticketService.enqueue(BOOKER_ID, request(ITEM_ID, 4, 6));
+
+        ticketService.processNextBatch(BATCH_SIZE);
+
+        assertThat(ticketService.getTicket(BOOKER_ID, first.getId()).getStatus()).isEqualTo(TicketStatus.DONE);
+        BookingTicketDto failed = ticketService.getTicket(BOOKER_ID, second.getId());
+        assertThat(failed.getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(failed.getError()).contains("already booked");
+        assertThat(failed.getBooking()).isNull();
+    }
+
+    @Test
+    void shouldProcessTicketsInBatches() {
+        for (int day = 3; day < 10; day += 2) {
+            ticketService.enqueue(BOOKER_ID, request(ITEM_ID, day, day + 1));
+        }
+
+        assertThat(ticketService.processNextBatch(3)).isEqualTo(3);
+        assertThat(ticketService.processNextBatch(3)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldProcessSingleTicket() {
+        BookingTicketDto ticket = ticketService.enqueue(BOOKER_ID, request(ITEM_ID, 3, 4));
+
+        assertThat(ticketService.findPendingIds(BATCH_SIZE)).containsExactly(ticket.getId());
+        assertThat(ticketService.processTicket(ticket.getId())).isTrue();
+
+        assertThat(ticketService.getTicket(BOOKER_ID, ticket.getId()).getStatus()).isEqualTo(TicketStatus.DONE);
+        assertThat(ticketService.processTicket(ticket.getId())).isFalse();
+        assertThat(ticketService.findPendingIds(BATCH_SIZE)).isEmpty();
+    }
+
+    @Test
+    void shouldFailTicketAfterTooManyUnexpectedErrors() {
+        BookingTicketDto ticket = ticketService.enqueue(BOOKER_ID, request(ITEM_ID, 3, 4));
+
+        for (int attempt = 1; attempt < BookingTicketService.MAX_ATTEMPTS; attempt++) {
+            ticketService.recordFailedAttempt(ticket.getId());
+            assertThat(ticketService.getTicket(BOOKER_ID, ticket.getId()).getStatus()).isEqualTo(TicketStatus.PENDING);
+        }
+        ticketService.recordFailedAttempt(ticket.getId());
+
+        BookingTicketDto failed = ticketService.getTicket(BOOKER_ID, ticket.getId());
+        assertThat(failed.getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(failed.getError()).isEqualTo(BookingTicketService.UNEXPECTED_ERROR);
+        assertThat(ticketService.processNextBatch(BATCH_SIZE)).isZero();
+    }
+
+    @Test
+    void shouldRejectTicketForUnknownItem() {
+        assertThrows(NotFoundException.class, () -> ticketService.enqueue(BOOKER_ID, request(999L, 3, 4)));
+    }
+
+    @Test
+    void shouldRejectTicketWithEndBeforeStart() {
+        assertThrows(IllegalArgumentException.class, () -> ticketService.enqueue(BOOKER_ID, request(ITEM_ID, 4, 3)));
+    }
+
+    @Test
+    void shouldHideTicketFromOtherUsers() {
+        BookingTicketDto ticket = ticketService.enqueue(BOOKER_ID, request(ITEM_ID, 3, 4));
+
+        assertThrows(NotFoundException.class, () -> ticketService.getTicket(OWNER_ID, ticket.getId()));
+    }
+
+    @Test
+    void shouldPurgeProcessedTickets() {
+        BookingTicketDto ticket = ticketService.enqueue(BOOKER_ID, request(ITEM_ID, 3, 4));
+        ticketService.processNextBatch(BATCH_SIZE);
+
+        assertThat(ticketService.purgeProcessedBefore(LocalDateTime.now().minusHours(1))).isZero();
+        assertThat(ticketService.purgeProcessedBefore(LocalDateTime.now().plusSeconds(1))).isEqualTo(1);
+        assertThrows(NotFoundException.class, () -> ticketService.getTicket(BOOKER_ID, ticket.getId()));
+    }
+
+    private static BookingRequest request(Long itemId, int startDay, int endDay) {
+        BookingRequest request = new BookingRequest();
+        request.setItemId(itemId);
+        request.setStart(LocalDateTime.now().plusDays(startDay));
+        request.setEnd(LocalDateTime.now().plusDays(endDay));
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.booking.ticket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingTicketWorkerTest {
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private BookingTicketService ticketService;
+
+    private BookingTicketWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new BookingTicketWorker(ticketService, BATCH_SIZE, 1, 500, 86400000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.close();
+    }
+
+    @Test
+    void shouldDrainFullBatchesUntilQueueIsShort() {
+        when(ticketService.processNextBatch(BATCH_SIZE)).thenReturn(2, 2, 1);
+
+        worker.drain();
+
+        verify(ticketService, times(3)).processNextBatch(BATCH_SIZE);
+        verify(ticketService, never()).findPendingIds(anyInt());
+    }
+
+    @Test
+    void shouldRetryFailedBatchTicketByTicket() {
+        when(ticketService.processNextBatch(BATCH_SIZE)).thenThrow(new DataIntegrityViolationException("boom"));
+        when(ticketService.findPendingIds(BATCH_SIZE)).thenReturn(List.of(1L, 2L));
+        when(ticketService.processTicket(1L)).thenThrow(new DataIntegrityViolationException("boom"));
+        when(ticketService.processTicket(2L)).thenReturn(true);
+
+        worker.drain();
+
+        // сбойная пачка не повторяется сразу: следующая попытка будет при очередном опросе
+        verify(ticketService, times(1)).processNextBatch(BATCH_SIZE);
+        verify(ticketService).recordFailedAttempt(1L);
+        verify(ticketService, never()).recordFailedAttempt(2L);
+    }
+}
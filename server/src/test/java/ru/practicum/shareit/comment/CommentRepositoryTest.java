@@ -0,0 +1,48 @@
+package ru.practicum.shareit.comment;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Sql(scripts = "/comment/test-data.sql")
+class CommentRepositoryTest {
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2024, 1, 2, 10, 0);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void shouldFindNewestCommentsWithAuthorNames() {
+        List<CommentView> comments = commentRepository.findCommentsByItemId(1L,
+                LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE, PageRequest.of(0, 2));
+
+        assertThat(comments).extracting(CommentView::getId).containsExactly(3L, 2L);
+        assertThat(comments).extracting(CommentView::getAuthorName).containsExactly("John Doe", "Jane Smith");
+        assertThat(comments.getFirst().getCreated()).isEqualTo(SAME_TIME);
+    }
+
+    @Test
+    void shouldFindCommentsAfterCursor() {
+        List<CommentView> comments = commentRepository.findCommentsByItemId(1L, SAME_TIME, 3L, PageRequest.of(0, 2));
+
+        assertThat(comments).extracting(CommentView::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldLimitNewestCommentsPerItem() {
+        List<CommentView> comments = commentRepository.findNewestCommentsByItemIdIn(List.of(1L, 2L), 2);
+
+        assertThat(comments).extracting(CommentView::getItemId).containsExactly(1L, 1L, 2L);
+        assertThat(comments).extracting(CommentView::getId).containsExactly(3L, 2L, 4L);
+        assertThat(comments).extracting(CommentView::getAuthorName).containsExactly("John Doe", "Jane Smith", "John Doe");
+        assertThat(comments.getFirst().getCreated()).isEqualTo(SAME_TIME);
+    }
+}
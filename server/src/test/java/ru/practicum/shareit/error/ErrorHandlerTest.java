@@ -37,4 +37,18 @@ class ErrorHandlerTest {
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.error").value("Unauthorized Access"));
     }
+
+    @Test
+    void testHandleNotOwnerException() throws Exception {
+        mockMvc.perform(get("/not-owner"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error").value("Not Owner"));
+    }
+
+    @Test
+    void testHandleConflictException() throws Exception {
+        mockMvc.perform(get("/conflict"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict Error"));
+    }
 }
\ No newline at end of file
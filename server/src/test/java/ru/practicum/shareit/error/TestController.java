@@ -2,7 +2,9 @@ package ru.practicum.shareit.error;
 
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.error.exception.ConflictException;
 import ru.practicum.shareit.error.exception.NotFoundException;
+import ru.practicum.shareit.error.exception.NotOwnerException;
 import ru.practicum.shareit.error.exception.UnauthorizedException;
 
 @RestController
@@ -22,4 +24,14 @@ public class TestController {
     public void throwForbiddenException() {
         throw new UnauthorizedException("Unauthorized Access");
     }
+
+    @GetMapping("/not-owner")
+    public void throwNotOwnerException() {
+        throw new NotOwnerException("Not Owner");
+    }
+
+    @GetMapping("/conflict")
+    public void throwConflictException() {
+        throw new ConflictException("Conflict Error");
+    }
 }
\ No newline at end of file
@@ -8,12 +8,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.TimeSlotDto;
 import ru.practicum.shareit.comment.CommentDto;
 import ru.practicum.shareit.comment.CommentRequest;
 import ru.practicum.shareit.item.ItemController;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemRequest;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -21,6 +23,7 @@ import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -123,10 +126,42 @@ class ItemControllerTest {
         verify(itemService, times(1)).getAllItemsFromOwner(anyLong());
     }
 
+    @Test
+    void getAvailabilityShouldReturnFreeSlots() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 10, 0, 0);
+        List<TimeSlotDto> slots = List.of(new TimeSlotDto(from, from.plusDays(2)), new TimeSlotDto(from.plusDays(5), to));
+        when(itemService.getAvailability(1L, from, to)).thenReturn(slots);
+
+        mockMvc.perform(get("/items/1/availability")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-10T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].start").value("2030-01-06T00:00:00"));
+
+        verify(itemService, times(1)).getAvailability(1L, from, to);
+    }
+
+    @Test
+    void suggestShouldReturnItemNames() throws Exception {
+        when(itemService.suggest("dr", 10)).thenReturn(List.of("Drill", "Drone"));
+
+        mockMvc.perform(get("/items/suggest")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("prefix", "dr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0]").value("Drill"));
+
+        verify(itemService, times(1)).suggest("dr", 10);
+    }
+
     @Test
     void searchItemShouldReturnListOfItemDtos() throws Exception {
         List<ItemDto> items = Arrays.asList(itemDto, itemDto);
-        when(itemService.search(anyLong(), anyString())).thenReturn(items);
+        when(itemService.search(anyLong(), anyString(), anyInt(), anyInt())).thenReturn(items);
 
         mockMvc.perform(get("/items/search")
                         .header("X-Sharer-User-Id", 1L)
@@ -135,7 +170,30 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].id").value(1L));
 
-        verify(itemService, times(1)).search(anyLong(), anyString());
+        verify(itemService, times(1)).search(anyLong(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getCommentsShouldReturnNextCursorWhenPageIsFull() throws Exception {
+        commentDto.setCreated(LocalDateTime.of(2024, 12, 1, 10, 0));
+        when(itemService.getComments(eq(1L), any(KeysetPageRequest.class))).thenReturn(List.of(commentDto));
+
+        mockMvc.perform(get("/items/{itemId}/comments", 1L)
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].authorName").value("Test User"))
+                .andExpect(header().string(KeysetPageRequest.NEXT_CURSOR_HEADER, "2024-12-01T10:00_1"));
+    }
+
+    @Test
+    void getCommentsShouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/items/{itemId}/comments", 1L)
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(itemService);
     }
 
     @Test
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.item.map;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.comment.CommentDto;
+import ru.practicum.shareit.comment.CommentMapperImpl;
+import ru.practicum.shareit.comment.CommentView;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemMapperImplTest {
+    private final ItemMapper itemMapper = new ItemMapperImpl(new CommentMapperImpl());
+
+    @Test
+    void toDto_mapsCommentViews() {
+        Item item = new Item();
+        item.setId(1L);
+        item.setName("Drill");
+        item.setDescription("Cordless drill");
+        item.setAvailable(true);
+        LocalDateTime created = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        ItemDto dto = itemMapper.toDto(item, List.of(comment(created)));
+
+        assertEquals(1L, dto.getId());
+        assertEquals("Drill", dto.getName());
+        assertEquals("Cordless drill", dto.getDescription());
+        assertTrue(dto.getAvailable());
+        assertEquals(1, dto.getComments().size());
+        CommentDto comment = dto.getComments().getFirst();
+        assertEquals(2L, comment.getId());
+        assertEquals("Great drill", comment.getText());
+        assertEquals("Booker", comment.getAuthorName());
+        assertEquals(created, comment.getCreated());
+    }
+
+    @Test
+    void toDto_returnsEmptyCommentsWithoutViews() {
+        ItemDto dto = itemMapper.toDto(new Item());
+
+        assertTrue(dto.getComments().isEmpty());
+        assertNull(dto.getCommentsCursor());
+    }
+
+    private static CommentView comment(LocalDateTime created) {
+        return new CommentView() {
+            @Override
+            public Long getItemId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getId() {
+                return 2L;
+            }
+
+            @Override
+            public String getText() {
+                return "Great drill";
+            }
+
+            @Override
+            public String getAuthorName() {
+                return "Booker";
+            }
+
+            @Override
+            public LocalDateTime getCreated() {
+                return created;
+            }
+        };
+    }
+}
@@ -9,7 +9,6 @@ import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -21,30 +20,25 @@ class ItemRepositoryTest {
     private ItemRepository itemRepository;
 
     @Test
-    void shouldSearchItemsByText() {
-        List<Item> items = itemRepository.searchItemsByText("item");
+    void shouldFindAllAvailableItems() {
+        List<Item> items = itemRepository.findAllByAvailableTrue();
 
-        assertThat(items).hasSize(1);
-        assertThat(items.getFirst().getName()).isEqualTo("Item 1");
+        assertThat(items).extracting(Item::getName).containsExactly("Item 1");
     }
 
     @Test
-    void shouldFindItemByIdWithComments() {
-        Optional<Item> item = itemRepository.findItemByIdWithComments(1L);
+    void shouldFindAvailableItemsByIdIn() {
+        List<Item> items = itemRepository.findAllByIdInAndAvailableTrue(List.of(1L, 2L, 3L));
 
-        assertThat(item).isPresent();
-        assertThat(item.get().getName()).isEqualTo("Item 1");
-        assertThat(item.get().getComments()).hasSize(1);
-        assertThat(item.get().getComments().getFirst().getText()).isEqualTo("Great item!");
+        assertThat(items).extracting(Item::getId).containsExactly(1L);
     }
 
     @Test
-    void shouldFindItemsByOwnerIdWithComments() {
-        List<Item> items = itemRepository.findItemsByOwnerIdWithComments(2L);
+    void shouldFindItemsByOwnerId() {
+        List<Item> items = itemRepository.findItemsByOwnerId(2L);
 
         assertThat(items).hasSize(1);
         assertThat(items.getFirst().getName()).isEqualTo("Item 1");
-        assertThat(items.getFirst().getComments()).hasSize(1);
     }
 
     @Test
@@ -55,4 +49,12 @@ class ItemRepositoryTest {
         assertThat(items.getFirst().getName()).isEqualTo("Item 1");
         assertThat(items.getFirst().getId()).isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFindItemsByRequestIdIn() {
+        List<ItemResponseDto> items = itemRepository.findItemsByRequestIdIn(List.of(1L, 2L));
+
+        assertThat(items).extracting(ItemResponseDto::getId).containsExactly(1L);
+        assertThat(items.getFirst().getRequestId()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,307 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+    @Mock
+    private ItemRepository itemRepository;
+
+    private SearchResultCache resultCache;
+    private ItemSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        resultCache = new SearchResultCache(new SimpleMeterRegistry(), 1000);
+        searchIndex = new ItemSearchIndex(itemRepository, resultCache);
+    }
+
+    @Test
+    void shouldFindSubstringInNameOrDescriptionIgnoringCase() {
+        searchIndex.put(item(1L, "Дрель Bosch", "Ударная дрель", true));
+        searchIndex.put(item(2L, "Saw", "Cordless DRILL attachment", true));
+        searchIndex.put(item(3L, "Ladder", "Aluminium", true));
+
+        assertThat(search("дрель")).containsExactly(1L);
+        assertThat(search("rill")).containsExactly(2L);
+        assertThat(search("BOSCH")).containsExactly(1L);
+        assertThat(search("drill saw")).isEmpty();
+    }
+
+    @Test
+    void shouldMatchShortQueriesBySubstring() {
+        searchIndex.put(item(1L, "Saw", "Hand saw", true));
+        searchIndex.put(item(2L, "Tent", "Two person", true));
+
+        assertThat(search("a")).containsExactly(1L);
+        assertThat(search("Tw")).containsExactly(2L);
+    }
+
+    @Test
+    void shouldNotMatchAcrossNameAndDescription() {
+        searchIndex.put(item(1L, "abc", "def", true));
+
+        assertThat(search("cde")).isEmpty();
+        assertThat(search("abc")).containsExactly(1L);
+    }
+
+    @Test
+    void shouldSkipUnavailableItems() {
+        Item item = item(1L, "Drill", "Cordless", true);
+        searchIndex.put(item);
+
+        item.setAvailable(false);
+        searchIndex.put(item);
+
+        assertThat(search("drill")).isEmpty();
+    }
+
+    @Test
+    void shouldForgetOldTextOnUpdate() {
+        Item item = item(1L, "Drill", "Cordless", true);
+        searchIndex.put(item);
+
+        item.setName("Saw");
+        searchIndex.put(item);
+
+        assertThat(search("drill")).isEmpty();
+        assertThat(search("saw")).containsExactly(1L);
+    }
+
+    @Test
+    void shouldRemoveItem() {
+        searchIndex.put(item(1L, "Drill", "Cordless", true));
+
+        searchIndex.remove(1L);
+
+        assertThat(search("drill")).isEmpty();
+        assertThat(search("d")).isEmpty();
+    }
+
+    @Test
+    void shouldRebuildFromAvailableItems() {
+        searchIndex.put(item(5L, "Stale", "Not in the database any more", true));
+        when(itemRepository.findAllByAvailableTrue())
+                .thenReturn(List.of(item(1L, "Drill", "Cordless", true), item(2L, "Drill bits", "Set", true)));
+
+        searchIndex.rebuild();
+
+        assertThat(search("drill")).containsExactly(1L, 2L);
+        assertThat(search("stale")).isEmpty();
+    }
+
+    @Test
+    void shouldUndoChangesOnRollback() {
+        Item item = item(1L, "Drill", "Cordless", true);
+        searchIndex.put(item);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            item.setName("Saw");
+            searchIndex.put(item);
+            searchIndex.put(item(2L, "Tent", "Two person", true));
+            assertThat(search("saw")).containsExactly(1L);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(search("drill")).containsExactly(1L);
+        assertThat(search("saw")).isEmpty();
+        assertThat(search("tent")).isEmpty();
+    }
+
+    @Test
+    void shouldRestoreStateBeforeTransactionWhenItemChangedTwice() {
+        Item item = item(1L, "Drill", "Cordless", true);
+        searchIndex.put(item);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            item.setName("Saw");
+            searchIndex.put(item);
+            item.setName("Tent");
+            searchIndex.put(item);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(search("drill")).containsExactly(1L);
+        assertThat(search("saw")).isEmpty();
+        assertThat(search("tent")).isEmpty();
+    }
+
+    @Test
+    void shouldNotLosePutMadeWhileRebuilding() throws InterruptedException {
+        Thread writer = new Thread(() -> searchIndex.put(item(2L, "Tent", "Two person", true)));
+        when(itemRepository.findAllByAvailableTrue()).thenAnswer(invocation -> {
+            // запись ждёт, пока перестройка не отпустит блокировку
+            writer.start();
+            writer.join(200);
+            assertThat(writer.isAlive()).isTrue();
+            return List.of(item(1L, "Drill", "Cordless", true));
+        });
+
+        searchIndex.rebuild();
+        writer.join();
+
+        assertThat(search("drill")).containsExactly(1L);
+        assertThat(search("tent")).containsExactly(2L);
+    }
+
+    @Test
+    void shouldRankNameHitsAboveDescriptionHits() {
+        searchIndex.put(item(1L, "Saw", "Works great with a drill", true));
+        searchIndex.put(item(2L, "Drill", "Cordless", true));
+
+        assertThat(search("drill")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldRankWholeWordsAboveSubstrings() {
+        searchIndex.put(item(1L, "Drilling rig", "Heavy", true));
+        searchIndex.put(item(2L, "Hand drill", "Light", true));
+
+        assertThat(search("drill")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldRankByTermFrequency() {
+        searchIndex.put(item(1L, "Tent", "A tent", true));
+        searchIndex.put(item(2L, "Tent", "A tent with a spare tent bag", true));
+        searchIndex.put(item(3L, "Tent", "Family", true));
+
+        assertThat(search("tent")).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void shouldReturnRequestedPage() {
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.put(item(id, "Drill " + id, "Cordless", true));
+        }
+        searchIndex.put(item(6L, "Drill", "Drill with drill bits", true));
+
+        assertThat(searchIndex.search("drill", 0, 2)).containsExactly(6L, 1L);
+        assertThat(searchIndex.search("drill", 2, 2)).containsExactly(2L, 3L);
+        assertThat(searchIndex.search("drill", 5, 2)).containsExactly(5L);
+        assertThat(searchIndex.search("drill", 6, 2)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidPage() {
+        assertThatThrownBy(() -> searchIndex.search("drill", -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchIndex.search("drill", 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldInvalidateCachedQueriesMatchedByChangedItem() {
+        Item drill = item(1L, "Drill", "Cordless", true);
+        searchIndex.put(drill);
+        searchIndex.put(item(2L, "Tent", "Two person", true));
+        assertThat(search("drill")).containsExactly(1L);
+        assertThat(search("tent")).containsExactly(2L);
+        assertThat(search("saw")).isEmpty();
+
+        drill.setName("Saw");
+        searchIndex.put(drill);
+
+        // "tent" не затронут изменением и остаётся в кэше
+        assertThat(resultCache.size()).isEqualTo(1);
+        assertThat(search("drill")).isEmpty();
+        assertThat(search("saw")).containsExactly(1L);
+    }
+
+    @Test
+    void shouldInvalidateCachedQueryWhenItemBecomesUnavailable() {
+        Item drill = item(1L, "Drill", "Cordless", true);
+        searchIndex.put(drill);
+        assertThat(search("drill")).containsExactly(1L);
+
+        drill.setAvailable(false);
+        searchIndex.put(drill);
+
+        assertThat(search("drill")).isEmpty();
+    }
+
+    @Test
+    void shouldSuggestNamesByPrefixInOrder() {
+        searchIndex.put(item(1L, "Drill bits", "Set", true));
+        searchIndex.put(item(2L, "Drill", "Cordless", true));
+        searchIndex.put(item(3L, "drone", "Camera", true));
+        searchIndex.put(item(4L, "Saw", "Hand saw", true));
+        searchIndex.put(item(5L, "Drill", "Hammer", true));
+
+        assertThat(searchIndex.suggest("DR", 10)).containsExactly("Drill", "Drill bits", "drone");
+        assertThat(searchIndex.suggest("dri", 1)).containsExactly("Drill");
+        assertThat(searchIndex.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldSuggestEachNameOnce() {
+        for (long id = 1; id <= 20; id++) {
+            searchIndex.put(item(id, "Drill", "Cordless", true));
+        }
+        searchIndex.put(item(21L, "DRILL", "Hammer", true));
+        searchIndex.put(item(22L, "Drill bits", "Set", true));
+
+        assertThat(searchIndex.suggest("dr", 2)).containsExactly("Drill", "Drill bits");
+    }
+
+    @Test
+    void shouldKeepSuggestionsInStepWithChanges() {
+        Item item = item(1L, "Drill", "Cordless", true);
+        searchIndex.put(item);
+
+        item.setName("Saw");
+        searchIndex.put(item);
+        searchIndex.put(item(2L, "Drone", "Camera", false));
+
+        assertThat(searchIndex.suggest("d", 10)).isEmpty();
+        assertThat(searchIndex.suggest("s", 10)).containsExactly("Saw");
+
+        searchIndex.remove(1L);
+
+        assertThat(searchIndex.suggest("s", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidSuggestionCount() {
+        assertThatThrownBy(() -> searchIndex.suggest("d", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Long> search(String text) {
+        return searchIndex.search(text, 0, 10);
+    }
+
+    private Item item(Long id, String name, String description, boolean available) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        return item;
+    }
+}
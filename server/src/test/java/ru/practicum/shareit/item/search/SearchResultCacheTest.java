@@ -0,0 +1,85 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+    private MeterRegistry registry;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // вес записи - число id плюс один
+        cache = new SearchResultCache(registry, 10);
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        assertThat(cache.get("drill", 0, 10)).isNull();
+        cache.put("drill", 0, 10, List.of(1L, 2L));
+
+        assertThat(cache.get("drill", 0, 10)).containsExactly(1L, 2L);
+        assertThat(cache.get("drill", 10, 10)).isNull();
+
+        assertThat(count("shareit.search.cache.gets", "hit")).isEqualTo(1);
+        assertThat(count("shareit.search.cache.gets", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesOverWeight() {
+        cache.put("drill", 0, 10, List.of(1L, 2L, 3L));
+        cache.put("saw", 0, 10, List.of(4L, 5L, 6L));
+        cache.get("drill", 0, 10);
+
+        cache.put("tent", 0, 10, List.of(7L, 8L, 9L));
+
+        assertThat(cache.get("saw", 0, 10)).isNull();
+        assertThat(cache.get("drill", 0, 10)).isNotNull();
+        assertThat(cache.get("tent", 0, 10)).isNotNull();
+        assertThat(cache.weight()).isEqualTo(8);
+        assertThat(registry.counter("shareit.search.cache.evictions").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheEntryHeavierThanWholeCache() {
+        cache.put("drill", 0, 20, List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+    }
+
+    @Test
+    void shouldReplaceEntryWithSameKey() {
+        cache.put("drill", 0, 10, List.of(1L, 2L, 3L));
+        cache.put("drill", 0, 10, List.of(1L));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldInvalidateOnlyAffectedQueries() {
+        cache.put("drill", 0, 10, List.of(1L));
+        cache.put("drill", 10, 10, List.of());
+        cache.put("saw", 0, 10, List.of(2L));
+
+        cache.invalidate(query -> "cordless drill".contains(query));
+
+        assertThat(cache.get("drill", 0, 10)).isNull();
+        assertThat(cache.get("drill", 10, 10)).isNull();
+        assertThat(cache.get("saw", 0, 10)).containsExactly(2L);
+        assertThat(cache.weight()).isEqualTo(2);
+        assertThat(registry.counter("shareit.search.cache.invalidations").count()).isEqualTo(2);
+    }
+
+    private double count(String name, String result) {
+        return registry.counter(name, "result", result).count();
+    }
+}
@@ -5,11 +5,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.booking.dto.TimeSlotDto;
+import ru.practicum.shareit.comment.CommentDto;
 import ru.practicum.shareit.comment.CommentMapper;
 import ru.practicum.shareit.comment.CommentRepository;
+import ru.practicum.shareit.comment.CommentView;
 import ru.practicum.shareit.error.exception.NotFoundException;
 import ru.practicum.shareit.error.exception.UnauthorizedException;
 import ru.practicum.shareit.item.ItemRepository;
@@ -19,9 +22,17 @@ import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.dto.ItemUpdateRequest;
 import ru.practicum.shareit.item.map.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
-
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.summary.ItemBookingSummary;
+import ru.practicum.shareit.item.summary.ItemBookingSummaryService;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
+import ru.practicum.shareit.request.match.RequestMatchService;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,7 +52,16 @@ class ItemServiceImplTest {
     private BookingRepository bookingRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ItemAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ItemBookingSummaryService summaryService;
+
+    @Mock
+    private ItemSearchIndex searchIndex;
+
+    @Mock
+    private RequestMatchService requestMatchService;
 
     @Mock
     private ItemMapper itemMapper;
@@ -61,15 +81,17 @@ class ItemServiceImplTest {
         Item savedItem = new Item();
         ItemDto expectedItemDto = new ItemDto();
 
-        when(modelMapper.map(itemRequest, Item.class)).thenReturn(item);
-        when(itemRepository.save(item)).thenReturn(savedItem);
+        when(itemMapper.toItem(itemRequest)).thenReturn(item);
+        when(itemRepository.saveAndFlush(item)).thenReturn(savedItem);
         when(itemMapper.toDto(savedItem)).thenReturn(expectedItemDto);
 
         ItemDto actualItemDto = itemService.save(ownerId, itemRequest);
 
         assertThat(actualItemDto).isEqualTo(expectedItemDto);
-        verify(modelMapper, times(1)).map(itemRequest, Item.class);
-        verify(itemRepository, times(1)).save(item);
+        verify(itemMapper, times(1)).toItem(itemRequest);
+        verify(itemRepository, times(1)).saveAndFlush(item);
+        verify(summaryService, times(1)).onItemAdded(savedItem);
+        verify(requestMatchService, times(1)).onItemAdded(savedItem);
         verify(itemMapper, times(1)).toDto(savedItem);
     }
 
@@ -78,13 +100,13 @@ class ItemServiceImplTest {
         Long ownerId = 1L;
         ItemRequest itemRequest = new ItemRequest();
 
-        when(modelMapper.map(itemRequest, Item.class)).thenThrow(DataIntegrityViolationException.class);
+        when(itemMapper.toItem(itemRequest)).thenThrow(DataIntegrityViolationException.class);
 
         assertThatThrownBy(() -> itemService.save(ownerId, itemRequest))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("User with id " + ownerId + " does not exist.");
 
-        verify(itemRepository, never()).save(any());
+        verify(itemRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -99,14 +121,14 @@ class ItemServiceImplTest {
 
         when(itemRepository.findById(itemId)).thenReturn(Optional.of(existingItem));
         when(itemRepository.save(existingItem)).thenReturn(updatedItem);
-        when(itemMapper.toDto(updatedItem)).thenReturn(expectedItemDto);
+        when(itemMapper.toDto(updatedItem, List.of())).thenReturn(expectedItemDto);
 
         ItemDto actualItemDto = itemService.update(ownerId, itemId, updateRequest);
 
         assertThat(actualItemDto).isEqualTo(expectedItemDto);
         verify(itemRepository, times(1)).findById(itemId);
         verify(itemRepository, times(1)).save(existingItem);
-        verify(itemMapper, times(1)).toDto(updatedItem);
+        verify(itemMapper, times(1)).toDto(updatedItem, List.of());
     }
 
     @Test
@@ -147,23 +169,39 @@ class ItemServiceImplTest {
     void shouldSearchItems() {
         String searchText = "keyword";
         Item item1 = new Item();
+        item1.setId(1L);
         Item item2 = new Item();
+        item2.setId(2L);
         ItemDto itemDto1 = new ItemDto();
+        itemDto1.setId(1L);
         ItemDto itemDto2 = new ItemDto();
+        itemDto2.setId(2L);
 
-        when(itemRepository.searchItemsByText(searchText)).thenReturn(List.of(item1, item2));
-        when(itemMapper.toDto(item1)).thenReturn(itemDto1);
-        when(itemMapper.toDto(item2)).thenReturn(itemDto2);
+        // индекс возвращает id в порядке релевантности, репозиторий - в порядке id
+        when(searchIndex.search(searchText, 0, 10)).thenReturn(List.of(2L, 1L));
+        when(itemRepository.findAllByIdInAndAvailableTrue(List.of(2L, 1L))).thenReturn(List.of(item1, item2));
+        when(itemMapper.toDto(item1, List.of())).thenReturn(itemDto1);
+        when(itemMapper.toDto(item2, List.of())).thenReturn(itemDto2);
 
-        List<ItemDto> result = itemService.search(1L, searchText);
+        List<ItemDto> result = itemService.search(1L, searchText, 0, 10);
 
-        assertThat(result).hasSize(2).containsExactly(itemDto1, itemDto2);
-        verify(itemRepository, times(1)).searchItemsByText(searchText);
+        assertThat(result).hasSize(2).containsExactly(itemDto2, itemDto1);
+        verify(itemRepository, times(1)).findAllByIdInAndAvailableTrue(List.of(2L, 1L));
+    }
+
+    @Test
+    void shouldNotQueryRepositoryWhenNothingFound() {
+        when(searchIndex.search("nothing", 0, 10)).thenReturn(List.of());
+
+        List<ItemDto> result = itemService.search(1L, "nothing", 0, 10);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(itemRepository);
     }
 
     @Test
     void shouldReturnEmptyListWhenSearchTextIsEmpty() {
-        List<ItemDto> result = itemService.search(1L, "");
+        List<ItemDto> result = itemService.search(1L, "", 0, 10);
 
         assertThat(result).isEmpty();
         verifyNoInteractions(itemRepository);
@@ -173,20 +211,40 @@ class ItemServiceImplTest {
     void shouldGetAllItemsFromOwnerWithBookings() {
         Long ownerId = 1L;
         Item item1 = new Item();
+        item1.setId(1L);
         Item item2 = new Item();
+        item2.setId(2L);
         ItemDto itemDto1 = new ItemDto();
+        itemDto1.setId(1L);
         ItemDto itemDto2 = new ItemDto();
+        itemDto2.setId(2L);
         List<Item> items = List.of(item1, item2);
-
-        when(itemRepository.findItemsByOwnerIdWithComments(ownerId)).thenReturn(items);
-        when(itemMapper.toDto(item1)).thenReturn(itemDto1);
-        when(itemMapper.toDto(item2)).thenReturn(itemDto2);
+        LocalDateTime now = LocalDateTime.now();
+        ItemBookingSummary last = new ItemBookingSummary(1L);
+        last.setLastBookingId(10L);
+        last.setLastStart(now.minusDays(2));
+        last.setLastEnd(now.minusDays(1));
+        ItemBookingSummary next = new ItemBookingSummary(2L);
+        next.setNextBookingId(11L);
+        next.setNextStart(now.plusDays(1));
+        next.setNextEnd(now.plusDays(2));
+
+        when(itemRepository.findItemsByOwnerId(ownerId)).thenReturn(items);
+        when(itemMapper.toDto(item1, List.of())).thenReturn(itemDto1);
+        when(itemMapper.toDto(item2, List.of())).thenReturn(itemDto2);
+        when(summaryService.getSummaries(List.of(1L, 2L))).thenReturn(Map.of(1L, last, 2L, next));
 
         List<ItemDto> result = itemService.getAllItemsFromOwner(ownerId);
 
         assertThat(result).hasSize(2).containsExactly(itemDto1, itemDto2);
-        verify(itemRepository, times(1)).findItemsByOwnerIdWithComments(ownerId);
-        verify(itemMapper, times(2)).toDto(any(Item.class));
+        assertThat(itemDto1.getLastBooking().getEnd()).isEqualTo(last.getLastEnd());
+        assertThat(itemDto1.getNextBooking()).isNull();
+        assertThat(itemDto2.getLastBooking()).isNull();
+        assertThat(itemDto2.getNextBooking().getStart()).isEqualTo(next.getNextStart());
+        verify(itemRepository, times(1)).findItemsByOwnerId(ownerId);
+        verify(itemMapper, times(2)).toDto(any(Item.class), anyList());
+        verify(summaryService, times(1)).getSummaries(anyCollection());
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
@@ -195,15 +253,24 @@ class ItemServiceImplTest {
         Long itemId = 1L;
         Item item = new Item();
         ItemDto itemDto = new ItemDto();
+        itemDto.setId(itemId);
+        LocalDateTime now = LocalDateTime.now();
+        ItemBookingSummary next = new ItemBookingSummary(itemId);
+        next.setNextBookingId(11L);
+        next.setNextStart(now.plusDays(1));
+        next.setNextEnd(now.plusDays(2));
 
-        when(itemRepository.findItemByIdWithComments(itemId)).thenReturn(Optional.of(item));
-        when(itemMapper.toDto(item)).thenReturn(itemDto);
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        when(itemMapper.toDto(item, List.of())).thenReturn(itemDto);
+        when(summaryService.getSummaries(List.of(itemId))).thenReturn(Map.of(itemId, next));
 
         ItemDto result = itemService.get(ownerId, itemId);
 
         assertThat(result).isEqualTo(itemDto);
-        verify(itemRepository, times(1)).findItemByIdWithComments(itemId);
-        verify(itemMapper, times(1)).toDto(item);
+        assertThat(result.getLastBooking()).isNull();
+        assertThat(result.getNextBooking().getEnd()).isEqualTo(next.getNextEnd());
+        verify(itemRepository, times(1)).findById(itemId);
+        verify(itemMapper, times(1)).toDto(item, List.of());
     }
 
     @Test
@@ -211,18 +278,101 @@ class ItemServiceImplTest {
         Long ownerId = 1L;
         Long itemId = 1L;
 
-        when(itemRepository.findItemByIdWithComments(itemId)).thenReturn(Optional.empty());
+        when(itemRepository.findById(itemId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> itemService.get(ownerId, itemId))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Item with id " + itemId + " and ownerId " + ownerId + " does not exist.");
 
-        verify(itemRepository, times(1)).findItemByIdWithComments(itemId);
+        verify(itemRepository, times(1)).findById(itemId);
+    }
+
+    @Test
+    void shouldAttachNewestCommentSliceWithCursor() {
+        Item item = new Item();
+        item.setId(1L);
+        ItemDto itemDto = new ItemDto();
+        itemDto.setId(1L);
+        LocalDateTime now = LocalDateTime.now();
+        List<CommentView> views = new ArrayList<>();
+        for (long id = ItemServiceImpl.COMMENTS_SLICE; id > 0; id--) {
+            views.add(new TestComment(1L, id, now.minusMinutes(ItemServiceImpl.COMMENTS_SLICE - id)));
+        }
+
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(itemMapper.toDto(item, views)).thenReturn(itemDto);
+        when(commentRepository.findNewestCommentsByItemIdIn(List.of(1L), ItemServiceImpl.COMMENTS_SLICE))
+                .thenReturn(views);
+
+        ItemDto result = itemService.get(1L, 1L);
+
+        assertThat(result.getCommentsCursor())
+                .isEqualTo(new Cursor(now.minusMinutes(ItemServiceImpl.COMMENTS_SLICE - 1), 1L).toString());
+    }
+
+    @Test
+    void shouldNotSetCommentsCursorForPartialSlice() {
+        Item item = new Item();
+        item.setId(1L);
+        ItemDto itemDto = new ItemDto();
+        itemDto.setId(1L);
+
+        List<CommentView> views = List.of(new TestComment(1L, 1L, LocalDateTime.now()));
+
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(itemMapper.toDto(item, views)).thenReturn(itemDto);
+        when(commentRepository.findNewestCommentsByItemIdIn(List.of(1L), ItemServiceImpl.COMMENTS_SLICE))
+                .thenReturn(views);
+
+        ItemDto result = itemService.get(1L, 1L);
+
+        assertThat(result.getCommentsCursor()).isNull();
+    }
+
+    @Test
+    void shouldGetCommentsAfterCursor() {
+        LocalDateTime created = LocalDateTime.now();
+        KeysetPageRequest page = KeysetPageRequest.of(0, 2, new Cursor(created, 5L).toString());
+        TestComment view = new TestComment(1L, 4L, created);
+
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findCommentsByItemId(1L, created, 5L, page.pageable())).thenReturn(List.of(view));
+        when(commentMapper.toDto(view)).thenReturn(toDto(view));
+
+        List<CommentDto> result = itemService.getComments(1L, page);
+
+        assertThat(result).extracting(CommentDto::getId).containsExactly(4L);
+    }
+
+    @Test
+    void shouldNotGetCommentsOfMissingItem() {
+        when(itemRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> itemService.getComments(1L, KeysetPageRequest.of(0, 10)))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void shouldSuggestNames() {
+        when(searchIndex.suggest("dr", 5)).thenReturn(List.of("Drill", "Drone"));
+
+        List<String> result = itemService.suggest("dr", 5);
+
+        assertThat(result).containsExactly("Drill", "Drone");
+    }
+
+    @Test
+    void shouldNotSuggestForBlankPrefix() {
+        List<String> result = itemService.suggest(" ", 5);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(searchIndex);
     }
 
     @Test
     void shouldReturnEmptyListWhenSearchTextIsNull() {
-        List<ItemDto> result = itemService.search(1L, null);
+        List<ItemDto> result = itemService.search(1L, null, 0, 10);
 
         assertThat(result).isEmpty();
         verifyNoInteractions(itemRepository);
@@ -241,4 +391,91 @@ class ItemServiceImplTest {
         verify(itemRepository, times(1)).findItemsByRequestId(requestorId);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldGroupItemsByRequestIds() {
+        ItemResponseDto first = mock(ItemResponseDto.class);
+        ItemResponseDto second = mock(ItemResponseDto.class);
+        ItemResponseDto third = mock(ItemResponseDto.class);
+        when(first.getRequestId()).thenReturn(1L);
+        when(second.getRequestId()).thenReturn(2L);
+        when(third.getRequestId()).thenReturn(1L);
+        when(itemRepository.findItemsByRequestIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(first, second, third));
+
+        Map<Long, List<ItemResponseDto>> items = itemService.getItemsByRequestIds(List.of(1L, 2L, 3L));
+
+        assertThat(items).containsOnlyKeys(1L, 2L);
+        assertThat(items.get(1L)).containsExactly(first, third);
+        assertThat(items.get(2L)).containsExactly(second);
+    }
+
+    @Test
+    void shouldNotQueryItemsForNoRequestIds() {
+        assertThat(itemService.getItemsByRequestIds(List.of())).isEmpty();
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void shouldGetAvailabilityFromIndex() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+        LocalDateTime to = from.plusDays(7);
+        List<TimeSlotDto> slots = List.of(new TimeSlotDto(from, to));
+
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(availabilityIndex.freeSlots(1L, from, to)).thenReturn(slots);
+
+        assertThat(itemService.getAvailability(1L, from, to)).isEqualTo(slots);
+    }
+
+    @Test
+    void shouldNotGetAvailabilityOfMissingItem() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        when(itemRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> itemService.getAvailability(1L, from, from.plusDays(1)))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(availabilityIndex);
+    }
+
+    @Test
+    void shouldNotGetAvailabilityForReversedPeriod() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        assertThatThrownBy(() -> itemService.getAvailability(1L, from, from.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CommentDto toDto(CommentView view) {
+        CommentDto dto = new CommentDto();
+        dto.setId(view.getId());
+        dto.setCreated(view.getCreated());
+        return dto;
+    }
+
+    private record TestComment(Long itemId, Long id, LocalDateTime created) implements CommentView {
+        @Override
+        public Long getItemId() {
+            return itemId;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getText() {
+            return "Comment " + id;
+        }
+
+        @Override
+        public String getAuthorName() {
+            return "Author";
+        }
+
+        @Override
+        public LocalDateTime getCreated() {
+            return created;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.comment.CommentDto;
 import ru.practicum.shareit.comment.CommentRequest;
 import ru.practicum.shareit.item.ItemRepository;
@@ -20,6 +21,7 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +35,7 @@ class ItemServiceIntegrationTest {
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
 
     private User owner;
     private User booker;
@@ -58,7 +61,8 @@ class ItemServiceIntegrationTest {
         item.setDescription("Test Description");
         item.setAvailable(true);
         item.setOwnerId(owner.getId());
-        item = itemRepository.save(item);
+        // id берётся из последовательности, INSERT и обновление поискового индекса происходят при flush
+        item = itemRepository.saveAndFlush(item);
     }
 
     @Test
@@ -98,7 +102,7 @@ class ItemServiceIntegrationTest {
 
     @Test
     void shouldSearchItems() {
-        List<ItemDto> items = itemService.search(owner.getId(), "Test");
+        List<ItemDto> items = itemService.search(owner.getId(), "Test", 0, 10);
 
         assertNotNull(items);
         assertFalse(items.isEmpty());
@@ -126,4 +130,48 @@ class ItemServiceIntegrationTest {
         assertEquals("Great item!", comment.getText());
         assertEquals(booker.getName(), comment.getAuthorName());
     }
+
+    @Test
+    void shouldGetOwnerItemsWithLastAndNextBookings() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        saveBooking(now.minusDays(5), now.minusDays(4));
+        saveBooking(now.minusDays(3), now.minusDays(2));
+        saveBooking(now.plusDays(2), now.plusDays(3));
+        saveBooking(now.plusDays(4), now.plusDays(5));
+
+        List<ItemDto> items = itemService.getAllItemsFromOwner(owner.getId());
+
+        assertEquals(1, items.size());
+        assertEquals(now.minusDays(2), items.getFirst().getLastBooking().getEnd());
+        assertEquals(now.plusDays(2), items.getFirst().getNextBooking().getStart());
+    }
+
+    @Test
+    void shouldShowNextBookingAfterApproval() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking booking = saveBooking(now.plusDays(2), now.plusDays(3), Status.WAITING);
+
+        assertNull(itemService.get(owner.getId(), item.getId()).getNextBooking());
+
+        bookingService.approveOrRejectBooking(owner.getId(), booking.getId(), true);
+        assertEquals(now.plusDays(2), itemService.get(owner.getId(), item.getId()).getNextBooking().getStart());
+
+        Booking rejected = saveBooking(now.plusDays(1), now.plusDays(2).minusHours(1), Status.WAITING);
+        bookingService.approveOrRejectBooking(owner.getId(), rejected.getId(), false);
+        assertEquals(now.plusDays(2), itemService.get(owner.getId(), item.getId()).getNextBooking().getStart());
+    }
+
+    private Booking saveBooking(LocalDateTime start, LocalDateTime end) {
+        return saveBooking(start, end, Status.APPROVED);
+    }
+
+    private Booking saveBooking(LocalDateTime start, LocalDateTime end, Status status) {
+        Booking booking = new Booking();
+        booking.setStart(start);
+        booking.setEnd(end);
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
 }
@@ -0,0 +1,207 @@
+package ru.practicum.shareit.item.summary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.ItemBookingTime;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemBookingSummaryServiceTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private ItemBookingSummaryRepository summaryRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private ItemBookingSummaryService summaryService;
+
+    @Test
+    void shouldReturnFreshSummaryWithoutQueryingBookings() {
+        ItemBookingSummary summary = new ItemBookingSummary(1L);
+        summary.setStaleAt(NOW.plusDays(1));
+
+        when(summaryRepository.findAllById(List.of(1L))).thenReturn(List.of(summary));
+
+        Map<Long, ItemBookingSummary> summaries = summaryService.getSummaries(List.of(1L));
+
+        assertThat(summaries).containsEntry(1L, summary);
+        verify(bookingRepository, never()).findLastAndNextBookingTimes(anyCollection(), any(), any());
+    }
+
+    @Test
+    void shouldComputeMissingSummaryWithoutWriting() {
+        when(summaryRepository.findAllById(List.of(1L))).thenReturn(List.of());
+        when(bookingRepository.findLastAndNextBookingTimes(anyCollection(), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(bookingTime(10L, NOW.minusDays(3), NOW.minusDays(2)),
+                        bookingTime(11L, NOW.plusDays(2), NOW.plusDays(3))));
+        when(bookingRepository.findCurrentBookingTimes(anyCollection(), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(bookingTime(12L, NOW.minusHours(1), NOW.plusHours(1))));
+
+        ItemBookingSummary summary = summaryService.getSummaries(List.of(1L)).get(1L);
+
+        assertThat(summary.getLastBookingId()).isEqualTo(10L);
+        assertThat(summary.getNextBookingId()).isEqualTo(11L);
+        assertThat(summary.getStaleAt()).isEqualTo(NOW.plusHours(1));
+        verify(summaryRepository, never()).findAllByIdForUpdate(anyCollection());
+        verify(summaryRepository, never()).insertMissing(anyCollection());
+        verify(summaryRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    void shouldComputeStaleSummaryWithoutChangingStoredRow() {
+        ItemBookingSummary stored = new ItemBookingSummary(1L);
+        stored.markPersisted();
+        stored.setNextBookingId(11L);
+        stored.setStaleAt(NOW.minusMinutes(1));
+
+        when(summaryRepository.findAllById(List.of(1L))).thenReturn(List.of(stored));
+        when(bookingRepository.findLastAndNextBookingTimes(anyCollection(), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        when(bookingRepository.findCurrentBookingTimes(anyCollection(), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        ItemBookingSummary summary = summaryService.getSummaries(List.of(1L)).get(1L);
+
+        assertThat(summary.getNextBookingId()).isNull();
+        assertThat(stored.getNextBookingId()).isEqualTo(11L);
+        verify(summaryRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    void shouldCreateEmptySummaryWithItem() {
+        Item item = new Item();
+        item.setId(1L);
+
+        summaryService.onItemAdded(item);
+
+        verify(summaryRepository).save(argThat(summary -> summary.getItemId().equals(1L)
+                && summary.isNew() && summary.getStaleAt() == null));
+    }
+
+    @Test
+    void shouldCreateMissingRowWhenBookingIsApproved() {
+        ItemBookingSummary created = new ItemBookingSummary(1L);
+        created.markPersisted();
+        Booking booking = booking(12L, NOW.plusDays(1), NOW.plusDays(2), Status.APPROVED);
+
+        when(summaryRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(summaryRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(created));
+        when(bookingRepository.findLastAndNextBookingTimes(anyCollection(), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(bookingTime(12L, NOW.plusDays(1), NOW.plusDays(2))));
+
+        summaryService.onStatusChanged(booking, Status.WAITING);
+
+        verify(summaryRepository).insertMissing(List.of(1L));
+        assertThat(created.getNextBookingId()).isEqualTo(12L);
+        assertThat(created.getStaleAt()).isEqualTo(NOW.plusDays(1));
+    }
+
+    @Test
+    void shouldMoveNextBookingForwardWhenEarlierBookingIsApproved() {
+        ItemBookingSummary summary = new ItemBookingSummary(1L);
+        summary.setNextBookingId(11L);
+        summary.setNextStart(NOW.plusDays(5));
+        summary.setNextEnd(NOW.plusDays(6));
+        summary.setStaleAt(NOW.plusDays(5));
+        Booking booking = booking(12L, NOW.plusDays(1), NOW.plusDays(2), Status.APPROVED);
+
+        when(summaryRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(summary));
+
+        summaryService.onStatusChanged(booking, Status.WAITING);
+
+        assertThat(summary.getNextBookingId()).isEqualTo(12L);
+        assertThat(summary.getStaleAt()).isEqualTo(NOW.plusDays(1));
+        verify(bookingRepository, never()).findLastAndNextBookingTimes(anyCollection(), any(), any());
+    }
+
+    @Test
+    void shouldIgnoreRejectionOfWaitingBooking() {
+        summaryService.onStatusChanged(booking(12L, NOW.plusDays(1), NOW.plusDays(2), Status.REJECTED), Status.WAITING);
+
+        verify(summaryRepository, never()).findByIdForUpdate(any());
+        verify(summaryRepository, never()).findAllByIdForUpdate(anyCollection());
+    }
+
+    @Test
+    void shouldRecomputeStaleSummariesOnRollForward() {
+        ItemBookingSummary summary = new ItemBookingSummary(1L);
+        summary.markPersisted();
+        summary.setNextBookingId(11L);
+        summary.setNextStart(NOW.minusMinutes(1));
+        summary.setNextEnd(NOW.plusDays(1));
+        summary.setStaleAt(NOW.minusMinutes(1));
+
+        when(summaryRepository.findStaleItemIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(summaryRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(summary));
+        when(bookingRepository.findLastAndNextBookingTimes(eq(List.of(1L)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        when(bookingRepository.findCurrentBookingTimes(eq(List.of(1L)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(bookingTime(11L, NOW.minusMinutes(1), NOW.plusDays(1))));
+
+        summaryService.rollForward();
+
+        assertThat(summary.getNextBookingId()).isNull();
+        assertThat(summary.getStaleAt()).isEqualTo(NOW.plusDays(1));
+        verify(summaryRepository).saveAll(anyCollection());
+    }
+
+    private Booking booking(Long id, LocalDateTime start, LocalDateTime end, Status status) {
+        Item item = new Item();
+        item.setId(1L);
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setItem(item);
+        booking.setStart(start);
+        booking.setEnd(end);
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private ItemBookingTime bookingTime(Long bookingId, LocalDateTime start, LocalDateTime end) {
+        return new ItemBookingTime() {
+            @Override
+            public Long getItemId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getBookingId() {
+                return bookingId;
+            }
+
+            @Override
+            public LocalDateTime getStart() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEnd() {
+                return end;
+            }
+        };
+    }
+}
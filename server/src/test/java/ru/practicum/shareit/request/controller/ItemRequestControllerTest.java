@@ -8,10 +8,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 import ru.practicum.shareit.request.ItemRequestController;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithoutResponses;
 import ru.practicum.shareit.request.dto.ItemRequestRequset;
+import ru.practicum.shareit.request.match.RequestMatchView;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.time.LocalDateTime;
@@ -21,6 +23,7 @@ import java.util.List;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -92,16 +95,69 @@ class ItemRequestControllerTest {
     @Test
     void getRequestsAllShouldReturnListOfItemRequestDtosWithoutResponses() throws Exception {
         List<ItemRequestDtoWithoutResponses> requests = Arrays.asList(requestDtoWithoutResponses, requestDtoWithoutResponses);
-        when(itemRequestService.getAllRequests(anyLong())).thenReturn(requests);
+        when(itemRequestService.getAllRequests(anyLong(), any(KeysetPageRequest.class))).thenReturn(requests);
 
         mockMvc.perform(get("/requests/all")
                         .header("X-Sharer-User-Id", 1L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].description").value("Test description"));
+                .andExpect(jsonPath("$[0].description").value("Test description"))
+                .andExpect(header().doesNotExist(KeysetPageRequest.NEXT_CURSOR_HEADER));
+
+        // без параметров постраничности - весь список, как до введения курсора
+        verify(itemRequestService, times(1)).getAllRequests(anyLong(), eq(KeysetPageRequest.unpaged()));
+    }
+
+    @Test
+    void getRequestsAllShouldPageWhenAnyPagingParameterIsGiven() throws Exception {
+        when(itemRequestService.getAllRequests(eq(1L), any(KeysetPageRequest.class))).thenReturn(List.of());
+
+        mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("from", "5"))
+                .andExpect(status().isOk());
 
-        verify(itemRequestService, times(1)).getAllRequests(anyLong());
+        verify(itemRequestService).getAllRequests(eq(1L), argThat(page -> page.isPaged()
+                && page.getFrom() == 5 && page.getSize() == 10));
+    }
+
+    @Test
+    void getRequestsAllShouldReturnNextCursorWhenPageIsFull() throws Exception {
+        requestDtoWithoutResponses.setCreated(LocalDateTime.of(2024, 12, 1, 10, 0));
+        when(itemRequestService.getAllRequests(eq(1L), any(KeysetPageRequest.class)))
+                .thenReturn(List.of(requestDtoWithoutResponses));
+
+        mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("size", "1")
+                        .param("cursor", "2024-12-02T10:00_5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(KeysetPageRequest.NEXT_CURSOR_HEADER, "2024-12-01T10:00_1"));
+    }
+
+    @Test
+    void getRequestsAllShouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(itemRequestService);
+    }
+
+    @Test
+    void getMatchesShouldReturnOwnerMatchesWithNextCursor() throws Exception {
+        TestMatch match = new TestMatch(7L, 3L, 5L, LocalDateTime.of(2024, 12, 1, 10, 0));
+        when(itemRequestService.getMatches(eq(1L), any(KeysetPageRequest.class))).thenReturn(List.of(match));
+
+        mockMvc.perform(get("/requests/matches")
+                        .header("X-Sharer-User-Id", 1L)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].requestId").value(3L))
+                .andExpect(jsonPath("$[0].itemName").value("Drill"))
+                .andExpect(header().string(KeysetPageRequest.NEXT_CURSOR_HEADER, "2024-12-01T10:00_7"));
     }
 
     @Test
@@ -117,4 +173,41 @@ class ItemRequestControllerTest {
 
         verify(itemRequestService, times(1)).getRequest(anyLong(), anyLong());
     }
-}
\ No newline at end of file
+
+    private record TestMatch(Long id, Long requestId, Long itemId, LocalDateTime created) implements RequestMatchView {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getRequestId() {
+            return requestId;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Need a drill";
+        }
+
+        @Override
+        public Long getItemId() {
+            return itemId;
+        }
+
+        @Override
+        public String getItemName() {
+            return "Drill";
+        }
+
+        @Override
+        public Integer getScore() {
+            return 1;
+        }
+
+        @Override
+        public LocalDateTime getCreated() {
+            return created;
+        }
+    }
+}
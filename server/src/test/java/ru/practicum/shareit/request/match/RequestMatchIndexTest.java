@@ -0,0 +1,140 @@
+package ru.practicum.shareit.request.match;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequestMatchIndexTest {
+    private static final Long OWNER_ID = 10L;
+
+    @Mock
+    private ItemRequestRepository itemRequestRepository;
+
+    private RequestMatchIndex matchIndex;
+
+    @BeforeEach
+    void setUp() {
+        matchIndex = new RequestMatchIndex(itemRequestRepository);
+    }
+
+    @Test
+    void shouldDropShortAndFillerWords() {
+        assertThat(RequestMatchIndex.keywords("Need a DRILL, for the weekend!"))
+                .containsExactlyInAnyOrder("drill", "weekend");
+        assertThat(RequestMatchIndex.keywords("Нужна дрель на выходные"))
+                .containsExactlyInAnyOrder("дрель", "выходные");
+        assertThat(RequestMatchIndex.keywords(null)).isEmpty();
+    }
+
+    @Test
+    void shouldRankRequestsBySharedKeywords() {
+        matchIndex.put(request(1L, 1L, "Need a drill"));
+        matchIndex.put(request(2L, 2L, "Cordless drill with batteries"));
+        matchIndex.put(request(3L, 3L, "Camping tent"));
+
+        assertThat(match(item("Drill", "Cordless, two batteries"), 10))
+                .containsExactly(new RequestMatchIndex.Match(2L, 3), new RequestMatchIndex.Match(1L, 1));
+        assertThat(match(item("Drill", "Cordless"), 1))
+                .containsExactly(new RequestMatchIndex.Match(2L, 2));
+        assertThat(match(item("Ladder", "Aluminium"), 10)).isEmpty();
+    }
+
+    @Test
+    void shouldSkipOwnRequests() {
+        matchIndex.put(request(1L, OWNER_ID, "Need a drill"));
+        matchIndex.put(request(2L, 2L, "Need a drill"));
+
+        assertThat(match(item("Drill", ""), 10)).containsExactly(new RequestMatchIndex.Match(2L, 1));
+    }
+
+    @Test
+    void shouldReindexChangedAndRemovedRequests() {
+        matchIndex.put(request(1L, 1L, "Need a drill"));
+        matchIndex.put(request(1L, 1L, "Need a tent"));
+        matchIndex.put(request(2L, 2L, "Need a tent"));
+        matchIndex.remove(2L);
+
+        assertThat(match(item("Drill", ""), 10)).isEmpty();
+        assertThat(match(item("Tent", ""), 10)).containsExactly(new RequestMatchIndex.Match(1L, 1));
+    }
+
+    @Test
+    void shouldRebuildFromRepository() {
+        matchIndex.put(request(5L, 1L, "Need a saw"));
+        when(itemRequestRepository.findAll()).thenReturn(List.of(request(1L, 1L, "Need a drill")));
+
+        matchIndex.rebuild();
+
+        assertThat(match(item("Saw", ""), 10)).isEmpty();
+        assertThat(match(item("Drill", ""), 10)).containsExactly(new RequestMatchIndex.Match(1L, 1));
+    }
+
+    @Test
+    void shouldUndoChangesWhenTransactionRollsBack() {
+        matchIndex.put(request(1L, 1L, "Need a drill"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            matchIndex.put(request(2L, 2L, "Need a drill"));
+            matchIndex.remove(1L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(match(item("Drill", ""), 10)).containsExactly(new RequestMatchIndex.Match(1L, 1));
+    }
+
+    @Test
+    void shouldRestoreStateBeforeTransactionWhenRequestChangedTwice() {
+        matchIndex.put(request(1L, 1L, "Need a drill"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            matchIndex.put(request(1L, 1L, "Need a tent"));
+            matchIndex.put(request(1L, 1L, "Need a ladder"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(match(item("Drill", ""), 10)).containsExactly(new RequestMatchIndex.Match(1L, 1));
+        assertThat(match(item("Tent", ""), 10)).isEmpty();
+    }
+
+    private List<RequestMatchIndex.Match> match(Item item, int limit) {
+        return matchIndex.match(item, limit);
+    }
+
+    private static ItemRequest request(Long id, Long requestorId, String description) {
+        ItemRequest request = new ItemRequest();
+        request.setId(id);
+        request.setRequestorId(requestorId);
+        request.setDescription(description);
+        return request;
+    }
+
+    private static Item item(String name, String description) {
+        Item item = new Item();
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(true);
+        item.setOwnerId(OWNER_ID);
+        return item;
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
@@ -15,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 class ItemRequestRepositoryTest {
+    private static final LocalDateTime FIRST_PAGE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
     @Autowired
     private ItemRequestRepository itemRequestRepository;
@@ -75,11 +78,36 @@ class ItemRequestRepositoryTest {
     }
 
     @Test
-    void shouldFindAllRequestsByRequestorId() {
-        List<ItemRequest> requests = itemRequestRepository.findAllNotOwnerRequestsSortedByCreatedTimeDesc(user2.getId());
+    void shouldFindOtherUsersRequestsNewestFirst() {
+        List<ItemRequest> requests = itemRequestRepository.findOtherUsersRequests(user2.getId(),
+                FIRST_PAGE, Long.MAX_VALUE, PageRequest.of(0, 10));
 
-        assertThat(requests).size().isEqualTo(2);
-        assertThat(requests.getFirst()).isEqualTo(itemRequest3);
-        assertThat(requests.getLast()).isEqualTo(itemRequest1);
+        assertThat(requests).containsExactly(itemRequest3, itemRequest1);
+    }
+
+    @Test
+    void shouldFindAllOtherUsersRequestsWhenUnpaged() {
+        KeysetPageRequest page = KeysetPageRequest.unpaged();
+
+        List<ItemRequest> requests = itemRequestRepository.findOtherUsersRequests(user2.getId(),
+                page.cursorTime(), page.cursorId(), page.pageable());
+
+        assertThat(requests).containsExactly(itemRequest3, itemRequest1);
+    }
+
+    @Test
+    void shouldNotFindOwnRequests() {
+        List<ItemRequest> requests = itemRequestRepository.findOtherUsersRequests(user1.getId(),
+                FIRST_PAGE, Long.MAX_VALUE, PageRequest.of(0, 10));
+
+        assertThat(requests).extracting(ItemRequest::getRequestorId).containsOnly(user2.getId());
+    }
+
+    @Test
+    void shouldFindOtherUsersRequestsAfterCursor() {
+        List<ItemRequest> requests = itemRequestRepository.findOtherUsersRequests(user2.getId(),
+                itemRequest3.getCreated(), itemRequest3.getId(), PageRequest.of(0, 1));
+
+        assertThat(requests).containsExactly(itemRequest1);
     }
-}
\ No newline at end of file
+}
@@ -5,18 +5,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import ru.practicum.shareit.error.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithoutResponses;
 import ru.practicum.shareit.request.dto.ItemRequestRequset;
+import ru.practicum.shareit.request.map.ItemRequestMapper;
+import ru.practicum.shareit.request.match.RequestMatchService;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.request.service.impl.ItemRequestServiceImpl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,7 +35,10 @@ class ItemRequestServiceImplTest {
     private ItemRequestRepository itemRequestRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ItemRequestMapper itemRequestMapper;
+
+    @Mock
+    private RequestMatchService requestMatchService;
 
     @InjectMocks
     private ItemRequestServiceImpl itemRequestService;
@@ -42,16 +48,17 @@ class ItemRequestServiceImplTest {
         Long userId = 1L;
         ItemRequestRequset itemRequestRequset = new ItemRequestRequset();
         ItemRequest itemRequest = new ItemRequest();
-        when(modelMapper.map(itemRequestRequset, ItemRequest.class)).thenReturn(itemRequest);
+        when(itemRequestMapper.toItemRequest(itemRequestRequset)).thenReturn(itemRequest);
         when(itemRequestRepository.save(itemRequest)).thenReturn(itemRequest);
 
         itemRequestService.addRequest(itemRequestRequset, userId);
 
         assertThat(itemRequest.getCreated()).isNotNull();
         assertThat(itemRequest.getRequestorId()).isEqualTo(userId);
-        verify(modelMapper, times(1)).map(itemRequestRequset, ItemRequest.class);
+        verify(itemRequestMapper, times(1)).toItemRequest(itemRequestRequset);
         verify(itemRequestRepository, times(1)).save(itemRequest);
-        verify(modelMapper, times(1)).map(itemRequest, ItemRequestDtoWithoutResponses.class);
+        verify(requestMatchService, times(1)).onRequestAdded(itemRequest);
+        verify(itemRequestMapper, times(1)).toDtoWithoutResponses(itemRequest);
     }
 
     @Test
@@ -62,14 +69,14 @@ class ItemRequestServiceImplTest {
         ItemRequestDto itemRequestDto = new ItemRequestDto();
         List<ItemResponseDto> items = List.of();
         when(itemRequestRepository.findById(requestId)).thenReturn(Optional.of(itemRequest));
-        when(modelMapper.map(itemRequest, ItemRequestDto.class)).thenReturn(itemRequestDto);
+        when(itemRequestMapper.toDto(itemRequest)).thenReturn(itemRequestDto);
         when(itemService.getItemsByRequestId(requestId)).thenReturn(items);
 
         ItemRequestDto obtainedDto = itemRequestService.getRequest(requestId, userId);
 
         assertThat(obtainedDto.getItems()).isEqualTo(items);
         verify(itemRequestRepository, times(1)).findById(requestId);
-        verify(modelMapper, times(1)).map(itemRequest, ItemRequestDto.class);
+        verify(itemRequestMapper, times(1)).toDto(itemRequest);
         verify(itemService, times(1)).getItemsByRequestId(requestId);
     }
 
@@ -84,7 +91,7 @@ class ItemRequestServiceImplTest {
                 .hasMessage(String.format("request with id %d not found!", requestId));
 
         verify(itemRequestRepository, times(1)).findById(requestId);
-        verifyNoInteractions(modelMapper);
+        verifyNoInteractions(itemRequestMapper);
         verifyNoInteractions(itemService);
     }
 
@@ -95,18 +102,20 @@ class ItemRequestServiceImplTest {
         List<ItemRequest> itemRequests = List.of(itemRequest);
         ItemRequestDto itemRequestDto = new ItemRequestDto();
         itemRequestDto.setId(itemRequestDtoId);
-        List<ItemResponseDto> itemResponseDtos = List.of();
+        List<ItemResponseDto> itemResponseDtos = List.of(mock(ItemResponseDto.class));
         when(itemRequestRepository.findByRequestorIdOrderByCreatedDesc(anyLong())).thenReturn(itemRequests);
-        when(modelMapper.map(itemRequest, ItemRequestDto.class)).thenReturn(itemRequestDto);
-        when(itemService.getItemsByRequestId(itemRequestDtoId)).thenReturn(itemResponseDtos);
+        when(itemRequestMapper.toDto(itemRequest)).thenReturn(itemRequestDto);
+        when(itemService.getItemsByRequestIds(List.of(itemRequestDtoId)))
+                .thenReturn(Map.of(itemRequestDtoId, itemResponseDtos));
 
         List<ItemRequestDto> itemRequestDtos = itemRequestService.getMyRequests(anyLong());
 
         assertThat(itemRequestDtos).size().isEqualTo(1);
         assertThat(itemRequestDtos.getFirst().getItems()).isEqualTo(itemResponseDtos);
         verify(itemRequestRepository, times(1)).findByRequestorIdOrderByCreatedDesc(anyLong());
-        verify(modelMapper, times(1)).map(itemRequest, ItemRequestDto.class);
-        verify(itemService, times(1)).getItemsByRequestId(itemRequestDtoId);
+        verify(itemRequestMapper, times(1)).toDto(itemRequest);
+        verify(itemService, times(1)).getItemsByRequestIds(List.of(itemRequestDtoId));
+        verify(itemService, never()).getItemsByRequestId(anyLong());
     }
 
     @Test
@@ -117,16 +126,16 @@ class ItemRequestServiceImplTest {
         ItemRequestDto itemRequestDto = new ItemRequestDto();
         itemRequestDto.setId(itemRequestDtoId);
         when(itemRequestRepository.findByRequestorIdOrderByCreatedDesc(anyLong())).thenReturn(itemRequests);
-        when(modelMapper.map(itemRequest, ItemRequestDto.class)).thenReturn(itemRequestDto);
-        when(itemService.getItemsByRequestId(itemRequestDtoId)).thenReturn(null);
+        when(itemRequestMapper.toDto(itemRequest)).thenReturn(itemRequestDto);
+        when(itemService.getItemsByRequestIds(List.of(itemRequestDtoId))).thenReturn(Map.of());
 
         List<ItemRequestDto> itemRequestDtos = itemRequestService.getMyRequests(anyLong());
 
         assertThat(itemRequestDtos).size().isEqualTo(1);
-        assertThat(itemRequestDtos.getFirst().getItems()).isNull();
+        assertThat(itemRequestDtos.getFirst().getItems()).isEmpty();
         verify(itemRequestRepository, times(1)).findByRequestorIdOrderByCreatedDesc(anyLong());
-        verify(modelMapper, times(1)).map(itemRequest, ItemRequestDto.class);
-        verify(itemService, times(1)).getItemsByRequestId(itemRequestDtoId);
+        verify(itemRequestMapper, times(1)).toDto(itemRequest);
+        verify(itemService, times(1)).getItemsByRequestIds(List.of(itemRequestDtoId));
     }
 
     @Test
@@ -134,16 +143,19 @@ class ItemRequestServiceImplTest {
         ItemRequest itemRequest = new ItemRequest();
         List<ItemRequest> itemRequests = List.of(itemRequest);
         ItemRequestDtoWithoutResponses itemRequestDtoWithoutResponses = new ItemRequestDtoWithoutResponses();
-        when(itemRequestRepository.findAllNotOwnerRequestsSortedByCreatedTimeDesc(anyLong())).thenReturn(itemRequests);
-        when(modelMapper.map(itemRequest, ItemRequestDtoWithoutResponses.class))
+        KeysetPageRequest page = KeysetPageRequest.of(0, 10);
+        when(itemRequestRepository.findOtherUsersRequests(1L, page.cursorTime(), page.cursorId(), page.pageable()))
+                .thenReturn(itemRequests);
+        when(itemRequestMapper.toDtoWithoutResponses(itemRequest))
                 .thenReturn(itemRequestDtoWithoutResponses);
 
         List<ItemRequestDtoWithoutResponses> itemRequestDtoWithoutResponsesList =
-                itemRequestService.getAllRequests(anyLong());
+                itemRequestService.getAllRequests(1L, page);
 
         assertThat(itemRequestDtoWithoutResponsesList).size().isEqualTo(1);
         assertThat(itemRequestDtoWithoutResponsesList.getFirst()).isEqualTo(itemRequestDtoWithoutResponses);
-        verify(itemRequestRepository, times(1)).findAllNotOwnerRequestsSortedByCreatedTimeDesc(anyLong());
-        verify(modelMapper, times(1)).map(itemRequest, ItemRequestDtoWithoutResponses.class);
+        verify(itemRequestRepository, times(1))
+                .findOtherUsersRequests(1L, page.cursorTime(), page.cursorId(), page.pageable());
+        verify(itemRequestMapper, times(1)).toDtoWithoutResponses(itemRequest);
     }
 }
\ No newline at end of file
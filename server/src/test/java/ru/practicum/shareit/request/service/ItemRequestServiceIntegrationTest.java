@@ -5,12 +5,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.KeysetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithoutResponses;
 import ru.practicum.shareit.request.dto.ItemRequestRequset;
+import ru.practicum.shareit.request.match.RequestMatchEvent;
+import ru.practicum.shareit.request.match.RequestMatchView;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -24,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @SpringBootTest
 @Transactional
+@RecordApplicationEvents
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 class ItemRequestServiceIntegrationTest {
 
@@ -31,6 +38,7 @@ class ItemRequestServiceIntegrationTest {
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ItemService itemService;
 
     private User user;
     private User anotherUser;
@@ -111,4 +119,35 @@ class ItemRequestServiceIntegrationTest {
         assertEquals("Need a mouse", requests.get(0).getDescription());
         assertEquals("Need a keyboard", requests.get(1).getDescription());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldListRequestsMatchingNewItemsToTheirOwner(ApplicationEvents events) {
+        ItemRequestRequset drill = new ItemRequestRequset();
+        drill.setDescription("Need a cordless drill for the weekend");
+        Long drillRequestId = itemRequestService.addRequest(drill, user.getId()).getId();
+        ItemRequestRequset tent = new ItemRequestRequset();
+        tent.setDescription("Looking for a tent");
+        itemRequestService.addRequest(tent, user.getId());
+
+        ru.practicum.shareit.item.dto.ItemRequest item = new ru.practicum.shareit.item.dto.ItemRequest();
+        item.setName("Drill");
+        item.setDescription("Cordless, two batteries");
+        item.setAvailable(true);
+        Long itemId = itemService.save(anotherUser.getId(), item).getId();
+        // свой запрос владельцу не предлагается
+        itemService.save(user.getId(), item);
+
+        List<RequestMatchView> matches = itemRequestService.getMatches(anotherUser.getId(), KeysetPageRequest.of(0, 10));
+
+        assertEquals(1, matches.size());
+        assertEquals(drillRequestId, matches.getFirst().getRequestId());
+        assertEquals(itemId, matches.getFirst().getItemId());
+        assertEquals(2, matches.getFirst().getScore());
+        assertEquals(List.of(), itemRequestService.getMatches(user.getId(), KeysetPageRequest.of(0, 10)));
+        List<RequestMatchEvent> pushed = events.stream(RequestMatchEvent.class).toList();
+        assertEquals(1, pushed.size());
+        assertEquals(drillRequestId, pushed.getFirst().requestId());
+        assertEquals(itemId, pushed.getFirst().itemId());
+        assertEquals(anotherUser.getId(), pushed.getFirst().ownerId());
+    }
+}
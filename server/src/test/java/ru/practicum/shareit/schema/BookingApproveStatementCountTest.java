@@ -0,0 +1,142 @@
+package ru.practicum.shareit.schema;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingDecision;
+import ru.practicum.shareit.sql.SqlStatementHeadersAdvice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class BookingApproveStatementCountTest {
+    private static final long OWNER_ID = 4000L;
+    private static final long BOOKER_ID = 4001L;
+    private static final long ITEM_ID = 4000L;
+    private static final long BOOKING_ID = 4000L;
+    private static final long OTHER_BOOKING_ID = 4001L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Owner', 'owner@approve.test')", OWNER_ID);
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Booker', 'booker@approve.test')",
+                BOOKER_ID);
+        jdbcTemplate.update("INSERT INTO items (id, name, description, available, owner_id) " +
+                "VALUES (?, 'Drill', 'Cordless', TRUE, ?)", ITEM_ID, OWNER_ID);
+        jdbcTemplate.update("INSERT INTO item_booking_summary (item_id) VALUES (?)", ITEM_ID);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        jdbcTemplate.update("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, 'WAITING')", BOOKING_ID, start, start.plusDays(1), ITEM_ID, BOOKER_ID);
+        jdbcTemplate.update("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                        "VALUES (?, ?, ?, ?, ?, 'WAITING')", OTHER_BOOKING_ID, start.plusDays(2), start.plusDays(3),
+                ITEM_ID, BOOKER_ID);
+    }
+
+    @Test
+    void rejectShouldRunConditionalUpdateWithoutLookups() throws Exception {
+        // условный UPDATE, чтение брони для ответа и загрузка расписания вещи в ItemAvailabilityIndex
+        // (расписание читается один раз, при первом обращении к вещи)
+        mockMvc.perform(patch("/bookings/{bookingId}", BOOKING_ID)
+                        .header("X-Sharer-User-Id", OWNER_ID)
+                        .param("approved", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("REJECTED"))
+                .andExpect(header().string(SqlStatementHeadersAdvice.COUNT_HEADER, "3"));
+    }
+
+    @Test
+    void decidedBookingShouldAnswerConflict() throws Exception {
+        mockMvc.perform(patch("/bookings/{bookingId}", BOOKING_ID)
+                        .header("X-Sharer-User-Id", OWNER_ID)
+                        .param("approved", "false"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/bookings/{bookingId}", BOOKING_ID)
+                        .header("X-Sharer-User-Id", OWNER_ID)
+                        .param("approved", "true"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void bookerShouldNotDecideBooking() throws Exception {
+        mockMvc.perform(patch("/bookings/{bookingId}", BOOKING_ID)
+                        .header("X-Sharer-User-Id", BOOKER_ID)
+                        .param("approved", "true"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void missingBookingShouldAnswerNotFound() throws Exception {
+        mockMvc.perform(patch("/bookings/{bookingId}", OTHER_BOOKING_ID + 1)
+                        .header("X-Sharer-User-Id", OWNER_ID)
+                        .param("approved", "true"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void batchShouldRunOneUpdateBatchAndOneRead() throws Exception {
+        // JDBC-батч условных UPDATE, одно чтение всех броней, загрузка расписания вещи
+        // и блокировка сводки вещи для одобренной брони, независимо от числа решений
+        List<BookingDecision> decisions = List.of(
+                new BookingDecision(BOOKING_ID, true),
+                new BookingDecision(OTHER_BOOKING_ID, false),
+                new BookingDecision(BOOKING_ID, false),
+                new BookingDecision(OTHER_BOOKING_ID + 1, true));
+
+        mockMvc.perform(patch("/bookings/batch")
+                        .header("X-Sharer-User-Id", OWNER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(decisions)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].booking.status").value("APPROVED"))
+                .andExpect(jsonPath("$[1].booking.status").value("REJECTED"))
+                .andExpect(jsonPath("$[2].code").value(409))
+                .andExpect(jsonPath("$[3].code").value(404))
+                .andExpect(header().string(SqlStatementHeadersAdvice.COUNT_HEADER, "4"));
+    }
+
+    @Test
+    void batchShouldNotLetBookerDecide() throws Exception {
+        mockMvc.perform(patch("/bookings/batch")
+                        .header("X-Sharer-User-Id", BOOKER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new BookingDecision(BOOKING_ID, true)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].code").value(403));
+
+        Assertions.assertEquals("WAITING", jdbcTemplate.queryForObject(
+                "SELECT status FROM bookings WHERE id = ?", String.class, BOOKING_ID));
+    }
+
+    @Test
+    void emptyBatchShouldAnswerBadRequest() throws Exception {
+        mockMvc.perform(patch("/bookings/batch")
+                        .header("X-Sharer-User-Id", OWNER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.schema;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingRequest;
+import ru.practicum.shareit.sql.SqlStatementHeadersAdvice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class BookingBulkStatementCountTest {
+    private static final long OWNER_ID = 5000L;
+    private static final long BOOKER_ID = 5001L;
+    private static final long DRILL_ID = 5000L;
+    private static final long SAW_ID = 5001L;
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Owner', 'owner@bulk.test')", OWNER_ID);
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Booker', 'booker@bulk.test')", BOOKER_ID);
+        jdbcTemplate.update("INSERT INTO items (id, name, description, available, owner_id) " +
+                "VALUES (?, 'Drill', 'Cordless', TRUE, ?)", DRILL_ID, OWNER_ID);
+        jdbcTemplate.update("INSERT INTO items (id, name, description, available, owner_id) " +
+                "VALUES (?, 'Saw', 'Electric', TRUE, ?)", SAW_ID, OWNER_ID);
+    }
+
+    @Test
+    void bulkShouldInsertAllBookingsWithOneBatch() throws Exception {
+        List<BookingRequest> requests = new ArrayList<>();
+        for (int day = 0; day < 10; day++) {
+            requests.add(request(day % 2 == 0 ? DRILL_ID : SAW_ID, START.plusDays(day)));
+        }
+
+        // пользователь, вещи одним запросом, расписание каждой из двух вещей, одно обращение к последовательности
+        // и один батч INSERT, сколько бы броней ни было в запросе
+        mockMvc.perform(post("/bookings/bulk")
+                        .header("X-Sharer-User-Id", BOOKER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10))
+                .andExpect(jsonPath("$[0].status").value("WAITING"))
+                .andExpect(header().string(SqlStatementHeadersAdvice.COUNT_HEADER, "6"));
+
+        assertEquals(10, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bookings WHERE booker_id = ?", Integer.class, BOOKER_ID));
+    }
+
+    @Test
+    void overlappingBookingShouldRejectWholeBulk() throws Exception {
+        List<BookingRequest> requests = List.of(request(DRILL_ID, START), request(DRILL_ID, START.plusHours(1)));
+
+        mockMvc.perform(post("/bookings/bulk")
+                        .header("X-Sharer-User-Id", BOOKER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isConflict());
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bookings WHERE booker_id = ?", Integer.class, BOOKER_ID));
+    }
+
+    private static BookingRequest request(long itemId, LocalDateTime start) {
+        BookingRequest request = new BookingRequest();
+        request.setItemId(itemId);
+        request.setStart(start);
+        request.setEnd(start.plusHours(2));
+        return request;
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.schema;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CapturingStatementInspector implements StatementInspector {
+    private static final List<String> STATEMENTS = new ArrayList<>();
+    // фоновые задачи (@Scheduled) тоже ходят в базу, поэтому запоминаем только поток теста
+    private static volatile Thread capturing;
+
+    @Override
+    public String inspect(String sql) {
+        if (Thread.currentThread() == capturing) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    static void clear() {
+        capturing = Thread.currentThread();
+        STATEMENTS.clear();
+    }
+
+    static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,175 @@
+package ru.practicum.shareit.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.ticket.BookingTicketRepository;
+import ru.practicum.shareit.booking.ticket.TicketStatus;
+import ru.practicum.shareit.comment.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.summary.ItemBookingSummaryRepository;
+import ru.practicum.shareit.request.match.RequestMatchRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "ru.practicum.shareit.schema.CapturingStatementInspector")
+class IndexUsageTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+    // H2 описывает доступ к таблице комментарием /* PUBLIC.<индекс>: <условие> */, без условия - полный проход
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\*\\s*PUBLIC\\.[\\w.]+\\s*\\*/");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemBookingSummaryRepository summaryRepository;
+    @Autowired
+    private RequestMatchRepository requestMatchRepository;
+    @Autowired
+    private BookingTicketRepository bookingTicketRepository;
+
+    @BeforeEach
+    void clear() {
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void bookerBookingQueriesShouldUseIndexes() {
+        bookingRepository.getBookingsByBookerId(1L, NOW, 1L, PAGE);
+        bookingRepository.getBookingsByBookerIdAndStatus(1L, Status.WAITING, NOW, 1L, PAGE);
+        bookingRepository.getBookingsByBookerIdAndEndBefore(1L, NOW, NOW, 1L, PAGE);
+        bookingRepository.getBookingsByBookerIdAndStartAfter(1L, NOW, NOW, 1L, PAGE);
+        bookingRepository.getBookingsByBookerIdAndCurrentTime(1L, NOW, NOW, 1L, PAGE);
+
+        assertAllStatementsUseIndexes(5);
+    }
+
+    @Test
+    void ownerBookingQueriesShouldUseIndexes() {
+        bookingRepository.getBookingsByOwnerId(1L, NOW, 1L, PAGE);
+        bookingRepository.getBookingsByOwnerIdAndStatus(1L, Status.WAITING, NOW, 1L, PAGE);
+        bookingRepository.getBookingsByOwnerIdAndEndBefore(1L, NOW, NOW, 1L, PAGE);
+        bookingRepository.getBookingsByOwnerIdAndStartAfter(1L, NOW, NOW, 1L, PAGE);
+        bookingRepository.getBookingsByOwnerIdAndCurrentTime(1L, NOW, NOW, 1L, PAGE);
+
+        assertAllStatementsUseIndexes(5);
+    }
+
+    @Test
+    void bookingDecisionShouldUseIndexes() {
+        bookingRepository.updateStatusIfWaiting(1L, 1L, Status.APPROVED);
+        bookingRepository.findAllWithItemAndBookerByIdIn(List.of(1L, 2L));
+
+        assertAllStatementsUseIndexes(2);
+    }
+
+    @Test
+    void itemBookingQueriesShouldUseIndexes() {
+        bookingRepository.getBookingByItemIdAndBookerIdAndEndBefore(1L, 1L, NOW);
+        bookingRepository.getBookingsByItemId(1L);
+        bookingRepository.findIntervalsByItemId(1L, List.of(Status.WAITING, Status.APPROVED), NOW);
+        bookingRepository.findLastAndNextBookingTimes(List.of(1L, 2L), Status.APPROVED, NOW);
+        bookingRepository.findCurrentBookingTimes(List.of(1L, 2L), Status.APPROVED, NOW);
+
+        assertAllStatementsUseIndexes(5);
+    }
+
+    @Test
+    void itemQueriesShouldUseIndexes() {
+        itemRepository.findById(1L);
+        itemRepository.findItemsByOwnerId(1L);
+        itemRepository.findItemsByRequestId(1L);
+        itemRepository.findAllByIdInAndAvailableTrue(List.of(1L, 2L));
+        itemRepository.findItemsByRequestIdIn(List.of(1L, 2L));
+
+        assertAllStatementsUseIndexes(5);
+    }
+
+    @Test
+    void commentQueriesShouldUseIndexes() {
+        commentRepository.findCommentsByItemId(1L, NOW, 1L, PAGE);
+        commentRepository.findNewestCommentsByItemIdIn(List.of(1L, 2L), 10);
+
+        assertAllStatementsUseIndexes(2);
+    }
+
+    @Test
+    void requestQueriesShouldUseIndexes() {
+        itemRequestRepository.findByRequestorIdOrderByCreatedDesc(1L);
+        itemRequestRepository.findOtherUsersRequests(1L, NOW, 1L, PAGE);
+
+        assertAllStatementsUseIndexes(2);
+    }
+
+    @Test
+    void requestMatchQueriesShouldUseIndexes() {
+        requestMatchRepository.findOwnerMatches(1L, NOW, 1L, PAGE);
+
+        assertAllStatementsUseIndexes(1);
+    }
+
+    @Test
+    void bookingTicketQueriesShouldUseIndexes() {
+        bookingTicketRepository.findForProcessing(TicketStatus.PENDING, PAGE);
+        bookingTicketRepository.deleteProcessedBefore(NOW);
+
+        assertAllStatementsUseIndexes(2);
+    }
+
+    @Test
+    void summaryQueriesShouldUseIndexes() {
+        summaryRepository.findStaleItemIds(NOW, PAGE);
+        summaryRepository.findAllByIdForUpdate(List.of(1L, 2L));
+
+        assertAllStatementsUseIndexes(2);
+    }
+
+    private void assertAllStatementsUseIndexes(int expectedStatements) {
+        List<String> statements = CapturingStatementInspector.statements();
+        assertThat(statements).hasSize(expectedStatements);
+        for (String sql : statements) {
+            String plan = plan(sql);
+            assertThat(FULL_SCAN.matcher(plan).find())
+                    .as("Full scan in plan:%n%s", plan)
+                    .isFalse();
+        }
+    }
+
+    private String plan(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
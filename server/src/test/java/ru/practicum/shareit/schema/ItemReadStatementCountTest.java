@@ -0,0 +1,102 @@
+package ru.practicum.shareit.schema;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "ru.practicum.shareit.schema.CapturingStatementInspector")
+@AutoConfigureMockMvc
+@Transactional
+class ItemReadStatementCountTest {
+    private static final long OWNER_ID = 1000L;
+    private static final long QUIET_ITEM_ID = 1000L;
+    private static final long POPULAR_ITEM_ID = 1001L;
+    private static final int AUTHORS = 15;
+    // предмет, комментарии с авторами и готовая сводка бронирований
+    private static final int ITEM_STATEMENTS = 3;
+    // без сводки: чтение сводки и два запроса пересчета в памяти
+    private static final int MISSING_SUMMARY_STATEMENTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Owner', 'owner@count.test')", OWNER_ID);
+        jdbcTemplate.update("INSERT INTO items (id, name, description, available, owner_id) " +
+                "VALUES (?, 'Quiet', 'Nobody comments', TRUE, ?)", QUIET_ITEM_ID, OWNER_ID);
+        jdbcTemplate.update("INSERT INTO items (id, name, description, available, owner_id) " +
+                "VALUES (?, 'Popular', 'Everybody comments', TRUE, ?)", POPULAR_ITEM_ID, OWNER_ID);
+        jdbcTemplate.update("INSERT INTO item_booking_summary (item_id) VALUES (?), (?)", QUIET_ITEM_ID, POPULAR_ITEM_ID);
+
+        // Каждый комментарий от нового автора: ленивая загрузка автора дала бы запрос на каждого
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (long author = 1; author <= AUTHORS; author++) {
+            jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, ?, ?)",
+                    OWNER_ID + author, "Author " + author, "author" + author + "@count.test");
+            jdbcTemplate.update("INSERT INTO comments (id, text, item_id, author_id, created) VALUES (?, ?, ?, ?, ?)",
+                    OWNER_ID + author, "Comment " + author, POPULAR_ITEM_ID, OWNER_ID + author,
+                    created.plusMinutes(author));
+        }
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void getItemShouldNotDependOnCommentCount() throws Exception {
+        mockMvc.perform(get("/items/{itemId}", QUIET_ITEM_ID).header("X-Sharer-User-Id", OWNER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(0));
+        int quietStatements = CapturingStatementInspector.statements().size();
+        CapturingStatementInspector.clear();
+
+        mockMvc.perform(get("/items/{itemId}", POPULAR_ITEM_ID).header("X-Sharer-User-Id", OWNER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(10))
+                .andExpect(jsonPath("$.comments[0].authorName").value("Author " + AUTHORS));
+
+        assertThat(quietStatements).isEqualTo(ITEM_STATEMENTS);
+        assertThat(CapturingStatementInspector.statements()).hasSize(ITEM_STATEMENTS);
+    }
+
+    @Test
+    void getOwnerItemsShouldNotDependOnItemOrCommentCount() throws Exception {
+        mockMvc.perform(get("/items").header("X-Sharer-User-Id", OWNER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].comments.length()").value(10));
+
+        assertThat(CapturingStatementInspector.statements()).hasSize(ITEM_STATEMENTS);
+    }
+
+    @Test
+    void missingSummaryShouldBeComputedWithoutLocksOrWrites() throws Exception {
+        jdbcTemplate.update("DELETE FROM item_booking_summary WHERE item_id = ?", QUIET_ITEM_ID);
+        CapturingStatementInspector.clear();
+
+        mockMvc.perform(get("/items/{itemId}", QUIET_ITEM_ID).header("X-Sharer-User-Id", OWNER_ID))
+                .andExpect(status().isOk());
+        entityManager.flush();
+
+        assertThat(CapturingStatementInspector.statements())
+                .hasSize(MISSING_SUMMARY_STATEMENTS)
+                .allSatisfy(sql -> assertThat(sql.toLowerCase()).startsWith("select").doesNotContain("for update"));
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.schema;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class MigrationTest {
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldApplyAllMigrationsOnStartup() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).isNotEmpty();
+    }
+
+    @Test
+    void shouldNotReapplyMigrationsOrTouchData() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (100, 'Kept', 'kept@example.com')");
+
+        assertThat(flyway.migrate().migrationsExecuted).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = 100", Integer.class))
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.schema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.sql.SqlStatementHeadersAdvice;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class RequestReadStatementCountTest {
+    private static final long REQUESTOR_ID = 3000L;
+    private static final long OWNER_ID = 3001L;
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void getMyRequestsShouldLoadItemsOfAllRequestsInOneQuery() throws Exception {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Requestor', 'requestor@count.test')",
+                REQUESTOR_ID);
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Owner', 'owner@count.test')", OWNER_ID);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (long request = 1; request <= REQUESTS; request++) {
+            long requestId = REQUESTOR_ID + request;
+            jdbcTemplate.update("INSERT INTO requests (id, description, created, requestor_id) VALUES (?, ?, ?, ?)",
+                    requestId, "Request " + request, created.plusMinutes(request), REQUESTOR_ID);
+            jdbcTemplate.update("INSERT INTO items (id, name, description, available, owner_id, request_id) " +
+                    "VALUES (?, ?, 'Answer', TRUE, ?, ?)", requestId, "Item " + request, OWNER_ID, requestId);
+        }
+
+        // запросы пользователя и предметы по всем запросам
+        mockMvc.perform(get("/requests").header("X-Sharer-User-Id", REQUESTOR_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(REQUESTS))
+                .andExpect(jsonPath("$[0].items[0].name").value("Item " + REQUESTS))
+                .andExpect(header().string(SqlStatementHeadersAdvice.COUNT_HEADER, "2"));
+    }
+}
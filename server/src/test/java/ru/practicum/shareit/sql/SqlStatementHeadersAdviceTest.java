@@ -0,0 +1,71 @@
+package ru.practicum.shareit.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatementHeadersAdviceTest {
+    private final ServletServerHttpRequest request =
+            new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/items"));
+    private final ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+    @BeforeEach
+    void begin() {
+        SqlStatementStats.begin();
+        SqlStatementStats.statementPrepared();
+        SqlStatementStats.statementPrepared();
+        SqlStatementStats.jdbcExecuted(1_500_000);
+    }
+
+    @AfterEach
+    void end() {
+        SqlStatementStats.end();
+    }
+
+    @Test
+    void shouldAddHeadersWithinBudget() {
+        SqlStatementHeadersAdvice advice = new SqlStatementHeadersAdvice(true, 2, true);
+
+        Object body = advice.beforeBodyWrite("body", null, null, null, request, response);
+
+        assertThat(body).isEqualTo("body");
+        assertThat(response.getHeaders().getFirst(SqlStatementHeadersAdvice.COUNT_HEADER)).isEqualTo("2");
+        assertThat(response.getHeaders().getFirst(SqlStatementHeadersAdvice.TIME_HEADER)).isEqualTo("1.500");
+    }
+
+    @Test
+    void shouldNotAddHeadersWhenDisabled() {
+        SqlStatementHeadersAdvice advice = new SqlStatementHeadersAdvice(false, 20, false);
+
+        advice.beforeBodyWrite("body", null, null, null, request, response);
+
+        assertThat(response.getHeaders()).doesNotContainKey(SqlStatementHeadersAdvice.COUNT_HEADER);
+    }
+
+    @Test
+    void shouldFailOnceWhenBudgetIsExceeded() {
+        SqlStatementHeadersAdvice advice = new SqlStatementHeadersAdvice(true, 1, true);
+
+        assertThatThrownBy(() -> advice.beforeBodyWrite("body", null, null, null, request, response))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("/items ran 2 SQL statements, budget is 1");
+        // ответ обработчика ошибок пишется уже без повторной проверки
+        assertThat(advice.beforeBodyWrite("error", null, null, null, request, response)).isEqualTo("error");
+    }
+
+    @Test
+    void shouldOnlyWarnWhenFailingIsDisabled() {
+        SqlStatementHeadersAdvice advice = new SqlStatementHeadersAdvice(true, 1, false);
+
+        advice.beforeBodyWrite("body", null, null, null, request, response);
+
+        assertThat(response.getHeaders().getFirst(SqlStatementHeadersAdvice.COUNT_HEADER)).isEqualTo("2");
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class SqlStatementStatsTest {
+    private static final long USER_ID = 2000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void shouldReportStatementsOfRequestInHeadersAndMetrics() throws Exception {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Counted', 'counted@sql.test')", USER_ID);
+
+        mockMvc.perform(get("/users/{userId}", USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatementHeadersAdvice.COUNT_HEADER, "1"))
+                .andExpect(header().exists(SqlStatementHeadersAdvice.TIME_HEADER));
+
+        DistributionSummary statements = registry.get("shareit.sql.statements")
+                .tags("controller", "UserController", "method", "getUser")
+                .summary();
+        assertThat(statements.count()).isPositive();
+        Timer time = registry.get("shareit.sql.time")
+                .tags("controller", "UserController", "method", "getUser")
+                .timer();
+        assertThat(time.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void shouldCountStatementsRunWhileStreamingBody() throws Exception {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, 'Owner', 'owner@sql.test')", USER_ID);
+        DistributionSummary statements = DistributionSummary.builder("shareit.sql.statements")
+                .tags("controller", "BookingController", "method", "exportOwnersBookings")
+                .register(registry);
+        double before = statements.totalAmount();
+
+        MvcResult result = mockMvc.perform(get("/bookings/owner/export").header("X-Sharer-User-Id", USER_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        // проверка владельца в потоке запроса и выгрузка в потоке потокового ответа
+        assertThat(statements.totalAmount() - before).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountStatementsOfFailedRequest() throws Exception {
+        mockMvc.perform(get("/users/{userId}", USER_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(SqlStatementHeadersAdvice.COUNT_HEADER, "1"));
+    }
+}
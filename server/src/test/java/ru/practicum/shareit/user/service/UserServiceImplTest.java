@@ -5,13 +5,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 import ru.practicum.shareit.error.exception.DuplicateEmailException;
 import ru.practicum.shareit.error.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserRequest;
 import ru.practicum.shareit.user.dto.UserUpdateRequest;
+import ru.practicum.shareit.user.map.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -26,7 +26,7 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -36,12 +36,12 @@ class UserServiceImplTest {
         User user = new User();
         UserDto userDto = new UserDto();
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(modelMapper.map(user, UserDto.class)).thenReturn(userDto);
+        when(userMapper.toDto(user)).thenReturn(userDto);
 
         userService.get(userId);
 
         verify(userRepository, times(1)).findById(userId);
-        verify(modelMapper, times(1)).map(user, UserDto.class);
+        verify(userMapper, times(1)).toDto(user);
     }
 
     @Test
@@ -54,7 +54,7 @@ class UserServiceImplTest {
                 .hasMessage("User with id " + userId + " not found");
 
         verify(userRepository, times(1)).findById(userId);
-        verifyNoInteractions(modelMapper);
+        verifyNoInteractions(userMapper);
     }
 
     @Test
@@ -64,16 +64,16 @@ class UserServiceImplTest {
         userDto.setId(1L);
         userDto.setEmail("someemail@mail.ru");
         UserRequest userRequest = new UserRequest();
-        when(modelMapper.map(userRequest, User.class)).thenReturn(user);
-        when(userRepository.save(user)).thenReturn(user);
-        when(modelMapper.map(user, UserDto.class)).thenReturn(userDto);
+        when(userMapper.toUser(userRequest)).thenReturn(user);
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
+        when(userMapper.toDto(user)).thenReturn(userDto);
 
         UserDto savedUser = userService.save(userRequest);
 
         assertThat(userDto).isEqualTo(savedUser);
-        verify(modelMapper, times(1)).map(userRequest, User.class);
-        verify(userRepository, times(1)).save(user);
-        verify(modelMapper, times(1)).map(user, UserDto.class);
+        verify(userMapper, times(1)).toUser(userRequest);
+        verify(userRepository, times(1)).saveAndFlush(user);
+        verify(userMapper, times(1)).toDto(user);
     }
 
     @Test
@@ -81,16 +81,16 @@ class UserServiceImplTest {
         UserRequest userRequest = new UserRequest();
         userRequest.setEmail("someemail@mail.ru");
         User user = new User();
-        when(modelMapper.map(userRequest, User.class)).thenReturn(user);
-        when(userRepository.save(user)).thenThrow(new DataIntegrityViolationException(""));
+        when(userMapper.toUser(userRequest)).thenReturn(user);
+        when(userRepository.saveAndFlush(user)).thenThrow(new DataIntegrityViolationException(""));
 
         assertThatThrownBy(() -> userService.save(userRequest))
                 .isInstanceOf(DuplicateEmailException.class)
                 .hasMessage("Email " + userRequest.getEmail() + " already exists");
 
-        verify(modelMapper, times(1)).map(userRequest, User.class);
-        verifyNoMoreInteractions(modelMapper);
-        verify(userRepository, times(1)).save(user);
+        verify(userMapper, times(1)).toUser(userRequest);
+        verifyNoMoreInteractions(userMapper);
+        verify(userRepository, times(1)).saveAndFlush(user);
     }
 
     @Test
@@ -103,7 +103,7 @@ class UserServiceImplTest {
         UserDto userDto = new UserDto();
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(userRepository.save(user)).thenReturn(user);
-        when(modelMapper.map(user, UserDto.class)).thenReturn(userDto);
+        when(userMapper.toDto(user)).thenReturn(userDto);
 
         userService.update(userId, userUpdateRequest);
 
@@ -111,7 +111,7 @@ class UserServiceImplTest {
         assertThat(user.getEmail()).isEqualTo(userUpdateRequest.getEmail());
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).save(user);
-        verify(modelMapper, times(1)).map(user, UserDto.class);
+        verify(userMapper, times(1)).toDto(user);
     }
 
     @Test
@@ -123,7 +123,7 @@ class UserServiceImplTest {
         user.setEmail("someEmail");
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(userRepository.save(user)).thenReturn(user);
-        when(modelMapper.map(user, UserDto.class)).thenReturn(userDto);
+        when(userMapper.toDto(user)).thenReturn(userDto);
 
         userService.update(userId, new UserUpdateRequest());
 
@@ -131,7 +131,7 @@ class UserServiceImplTest {
         assertThat(user.getEmail()).isEqualTo("someEmail");
         verify(userRepository, times(1)).findById(userId);
         verify(userRepository, times(1)).save(user);
-        verify(modelMapper, times(1)).map(user, UserDto.class);
+        verify(userMapper, times(1)).toDto(user);
     }
 
     @Test
@@ -145,7 +145,7 @@ class UserServiceImplTest {
                 .hasMessage("User with id " + userId + " not found");
 
         verify(userRepository, times(1)).findById(userId);
-        verifyNoInteractions(modelMapper);
+        verifyNoInteractions(userMapper);
     }
 
     @Test
@@ -0,0 +1,5 @@
+-- Добавляем прошлое и будущее бронирования для проверки курсора
+INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status)
+VALUES (2, DATEADD(DAY, -6, CURRENT_TIMESTAMP), DATEADD(DAY, -5, CURRENT_TIMESTAMP), 1, 1, 'APPROVED');
+INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status)
+VALUES (3, DATEADD(DAY, 4, CURRENT_TIMESTAMP), DATEADD(DAY, 5, CURRENT_TIMESTAMP), 1, 1, 'WAITING');
@@ -0,0 +1,6 @@
+-- Бронирований заранее не создаем: их id выдает IDENTITY при обработке заявок
+INSERT INTO users (id, name, email) VALUES (1000, 'Owner', 'ticket-owner@example.com');
+INSERT INTO users (id, name, email) VALUES (1001, 'Booker', 'ticket-booker@example.com');
+
+INSERT INTO items (id, name, description, available, owner_id)
+VALUES (1000, 'Drill', 'Available item', TRUE, 1000);
@@ -0,0 +1,19 @@
+-- Добавляем пользователей
+INSERT INTO users (id, name, email) VALUES (1, 'John Doe', 'john.doe@example.com');
+INSERT INTO users (id, name, email) VALUES (2, 'Jane Smith', 'jane.smith@example.com');
+
+-- Добавляем предметы
+INSERT INTO items (id, name, description, available, owner_id, request_id)
+VALUES (1, 'Item 1', 'Description for item 1', TRUE, 2, NULL);
+INSERT INTO items (id, name, description, available, owner_id, request_id)
+VALUES (2, 'Item 2', 'Description for item 2', TRUE, 2, NULL);
+
+-- Комментарии 2 и 3 оставлены одновременно, порядок между ними задает id
+INSERT INTO comments (id, text, item_id, author_id, created)
+VALUES (1, 'First', 1, 1, TIMESTAMP '2024-01-01 10:00:00');
+INSERT INTO comments (id, text, item_id, author_id, created)
+VALUES (2, 'Second', 1, 2, TIMESTAMP '2024-01-02 10:00:00');
+INSERT INTO comments (id, text, item_id, author_id, created)
+VALUES (3, 'Third', 1, 1, TIMESTAMP '2024-01-02 10:00:00');
+INSERT INTO comments (id, text, item_id, author_id, created)
+VALUES (4, 'Other', 2, 1, TIMESTAMP '2024-01-01 10:00:00');
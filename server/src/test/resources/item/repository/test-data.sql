@@ -12,4 +12,7 @@ VALUES (1, 'Item 1', 'Description for item 1', TRUE, 2, 1);
 
 -- Добавляем комментарии
 INSERT INTO comments (id, text, item_id, author_id, created)
-VALUES (1, 'Great item!', 1, 1, CURRENT_TIMESTAMP);
\ No newline at end of file
+VALUES (1, 'Great item!', 1, 1, CURRENT_TIMESTAMP);
+-- Недоступный предмет не попадает в поиск
+INSERT INTO items (id, name, description, available, owner_id, request_id)
+VALUES (2, 'Broken item', 'Description for item 2', FALSE, 1, NULL);